@@ -5,6 +5,12 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -23,6 +29,10 @@ public class S3Config {
     @Value("${aws.s3.region}")
     private String region;
 
+    // 동시에 진행할 수 있는 최대 업로드 수
+    @Value("${aws.s3.upload-threads:8}")
+    private int uploadThreads;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKeyId, secretAccessKey);
@@ -31,4 +41,18 @@ public class S3Config {
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
                 .build();
     }
+
+    // 이미지 업로드 전용 스레드 풀 (크기와 대기열이 제한되어 있어 업로드가 몰려도 스레드가 무한정 늘지 않음)
+    // 대기열까지 가득 차면 요청 스레드가 직접 업로드 (CallerRunsPolicy)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3UploadExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(uploadThreads, uploadThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(uploadThreads * 8), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 }
@@ -13,14 +13,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URISyntaxException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -30,64 +35,137 @@ public class S3Service {
     @Value("${aws.s3.bucket-name}")
     private String bucket;
 
+    // 파일 한 개 업로드에 허용하는 최대 시간
+    @Value("${aws.s3.upload-timeout-ms:30000}")
+    private int uploadTimeoutMs;
+
     private final AmazonS3 amazonS3;
+    private final ExecutorService s3UploadExecutor;
 
 
+    // 여러 파일을 병렬로 업로드하고, 입력 순서대로 URL 반환
+    // 하나라도 실패하면 이미 업로드된 파일을 모두 삭제하고 예외를 던짐 (전부 성공 또는 전부 실패)
     public List<String> uploadFile(List<MultipartFile> multipartFiles) {
+        // 파일 이름 검증은 업로드 시작 전에 수행 (잘못된 파일이 있으면 아무것도 업로드하지 않음)
+        List<String> fileNames = multipartFiles.stream()
+                .map(file -> createFileName(sanitizeFileName(file.getOriginalFilename())))
+                .toList();
+
+        // 요청 전체의 업로드 대기 시간은 하나의 마감 시각으로 제한 (파일 수와 관계없이 최대 uploadTimeoutMs * 2)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(uploadTimeoutMs * 2L);
+
+        List<CompletableFuture<String>> uploads = new ArrayList<>();
+        for (int i = 0; i < multipartFiles.size(); i++) {
+            MultipartFile file = multipartFiles.get(i);
+            String fileName = fileNames.get(i);
+            uploads.add(CompletableFuture.supplyAsync(() -> upload(file, fileName), s3UploadExecutor));
+        }
+
+        // 실패가 있어도 나머지 업로드가 끝날 때까지 기다려야 정리할 파일이 확정됨 (남은 시간만큼만 대기)
+        boolean failed = false;
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed = true;
+        } catch (ExecutionException e) {
+            failed = true;  // 원인은 아래에서 파일별로 기록
+        }
+
+        // 결과는 입력 순서대로 수집
         List<String> fileUrlList = new ArrayList<>();
-        for (MultipartFile file : multipartFiles) {
+        List<String> uploadedFileNames = new ArrayList<>();
+        for (int i = 0; i < uploads.size(); i++) {
+            CompletableFuture<String> upload = uploads.get(i);
+            String fileName = fileNames.get(i);
+            if (!upload.isDone()) {
+                failed = true;
+                log.error("파일 업로드 시간 초과: {}", multipartFiles.get(i).getOriginalFilename());
+                // 늦게라도 업로드가 끝나면 삭제
+                upload.thenAccept(url -> deleteQuietly(fileName));
+                continue;
+            }
             try {
-                // 파일 이름 정리
-                String originalFileName = sanitizeFileName(file.getOriginalFilename());
-                String fileName = createFileName(originalFileName);
-                System.out.println("파일 이름 정리");
-
-                // 메타데이터 설정
-                ObjectMetadata objectMetadata = new ObjectMetadata();
-                objectMetadata.setContentLength(file.getSize());
-                objectMetadata.setContentType(file.getContentType() != null ? file.getContentType() : "application/octet-stream");
-                System.out.println("메타데이터 설정");
-
-                // S3 업로드
-                try (InputStream inputStream = file.getInputStream()) {
-                    amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                            .withCannedAcl(CannedAccessControlList.PublicRead));
-                    System.out.println("s3upload");
-                }
-
-                // 업로드된 파일 URL 저장
-                String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-                fileUrlList.add(fileUrl);
-
-            } catch (IOException e) {
-                System.err.println("파일 업로드 실패: " + file.getOriginalFilename());
+                fileUrlList.add(upload.join());
+                uploadedFileNames.add(fileName);
+            } catch (CompletionException e) {
+                failed = true;
+                log.error("파일 업로드 실패: {}", multipartFiles.get(i).getOriginalFilename(), e.getCause());
             }
         }
+
+        if (failed) {
+            uploadedFileNames.forEach(this::deleteQuietly);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
+        }
         return fileUrlList;
     }
-    // 기본 이미지를 S3에 업로드하고 URL을 반환하는 메서드
-    public String uploadDefaultImageToS3(String imagePath) {
+
+    // 업로드 후 DB 저장 등 이후 단계가 실패했을 때 업로드한 파일 정리
+    public void deleteUploadedFiles(List<String> fileUrls) {
+        fileUrls.forEach(fileUrl -> deleteQuietly(extractFileNameFromUrl(fileUrl)));
+    }
+
+    // 파일 한 개 업로드 (업로드 스레드 풀에서 실행)
+    private String upload(MultipartFile file, String fileName) {
+        // 메타데이터 설정
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(file.getSize());
+        objectMetadata.setContentType(file.getContentType() != null ? file.getContentType() : "application/octet-stream");
+
+        // S3 업로드 (요청 단위 타임아웃 적용)
+        try (InputStream inputStream = file.getInputStream()) {
+            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+            putObjectRequest.setSdkRequestTimeout(uploadTimeoutMs);
+            amazonS3.putObject(putObjectRequest);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 업로드된 파일 URL 반환
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
+
+    private void deleteQuietly(String fileName) {
         try {
-            // 파일 경로가 정확한지 확인
-            File file = new File(getClass().getClassLoader().getResource(imagePath).toURI());
-            String fileName = createFileName(file.getName());
+            deleteFile(fileName);
+        } catch (Exception e) {
+            log.error("업로드 실패 후 파일 정리 실패: {}", fileName, e);
+        }
+    }
+
+    // 기본 이미지를 고정된 key 로 S3에 한 번만 업로드하고 URL을 반환하는 메서드
+    // 이미 같은 key 의 파일이 있으면 업로드하지 않고 기존 URL 반환
+    public String uploadDefaultImageToS3(String imagePath, String key) {
+        if (amazonS3.doesObjectExist(bucket, key)) {
+            return amazonS3.getUrl(bucket, key).toString();
+        }
+
+        // jar 안의 리소스도 읽을 수 있도록 파일 대신 스트림으로 읽음
+        try (InputStream resource = getClass().getClassLoader().getResourceAsStream(imagePath)) {
+            if (resource == null) {
+                throw new IOException("기본 이미지 리소스가 없습니다: " + imagePath);
+            }
+            byte[] bytes = resource.readAllBytes();
 
             // 메타데이터 설정
             ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(file.length());
+            objectMetadata.setContentLength(bytes.length);
             objectMetadata.setContentType("image/jpeg");  // 기본 이미지의 타입을 설정
 
             // S3 업로드
-            try (InputStream inputStream = new FileInputStream(file)) {
-                amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead));
-            }
+            amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
 
             // 업로드된 파일 URL 반환
-            String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
+            String fileUrl = amazonS3.getUrl(bucket, key).toString();
             log.info("Default image uploaded to S3: {}", fileUrl);
             return fileUrl;
-        } catch (IOException | URISyntaxException e) {
+        } catch (IOException e) {
             log.error("Failed to upload default image to S3", e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to upload default image", e);
         }
@@ -4,8 +4,8 @@ import com.pawstime.pawstime.domain.comment.dto.req.CreateCommentReqDto;
 import com.pawstime.pawstime.domain.comment.dto.req.UpdateCommentReqDto;
 import com.pawstime.pawstime.domain.comment.dto.resp.CreateCommentRespDto;
 import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+import com.pawstime.pawstime.domain.comment.dto.resp.GetScrollCommentRespDto;
 import com.pawstime.pawstime.domain.comment.facade.CommentFacade;
-import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
 import com.pawstime.pawstime.global.common.ApiResponse;
 import com.pawstime.pawstime.global.enums.Status;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +14,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 @Slf4j
@@ -86,6 +88,47 @@ public class CommentController {
     );
   }
 
+  @Operation(summary = "댓글 전체 목록 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회할 수 있습니다. (작성일 순, direction: asc, desc)")
+  @GetMapping("/comments/scroll")
+  public ResponseEntity<ApiResponse<GetScrollCommentRespDto>> getCommentAllScroll(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "DESC") String direction
+  ) {
+    return ApiResponse.generateResp(Status.SUCCESS, null,
+        commentFacade.getCommentAllScroll(cursor, size, direction));
+  }
+
+  @Operation(summary = "특정 게시글 댓글 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회할 수 있습니다. (작성일 순, direction: asc, desc)")
+  @GetMapping("/posts/{postId}/comments/scroll")
+  public ResponseEntity<ApiResponse<GetScrollCommentRespDto>> getCommentByPostScroll(
+      @PathVariable Long postId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "DESC") String direction
+  ) {
+    return ApiResponse.generateResp(Status.SUCCESS, null,
+        commentFacade.getCommentByPostScroll(postId, cursor, size, direction));
+  }
+
+  @Operation(summary = "특정 게시글 실시간 댓글 스트림", description = "댓글 작성/수정/삭제 시 comment-created, comment-updated, comment-deleted 이벤트를 SSE로 전달합니다.")
+  @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamComments(@PathVariable Long postId) {
+    return commentFacade.subscribeComments(postId);
+  }
+
+  @Operation(summary = "현재 로그인한 사용자가 작성한 댓글 목록 커서 조회")
+  @GetMapping("/me/scroll")
+  public ResponseEntity<ApiResponse<GetScrollCommentRespDto>> getCommentListByUserScroll(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "DESC") String direction,
+      HttpServletRequest httpServletRequest
+  ) {
+    return ApiResponse.generateResp(Status.SUCCESS, null,
+        commentFacade.getCommentListByUserScroll(cursor, size, direction, httpServletRequest));
+  }
+
   @Operation(summary = "댓글 삭제", description = "선택한 댓글을 삭제합니다.")
   @DeleteMapping("/posts/{postId}/comments/{commentId}")
   public ResponseEntity<ApiResponse<Void>> deleteComment(
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,12 @@ import java.time.format.DateTimeFormatter;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "comment")
+// 커서 조회(게시글별, 전체, 작성자별)가 인덱스 순서대로 읽고 바로 멈출 수 있도록 (조건, is_delete, created_at, comment_id) 순서
+@Table(name = "comment", indexes = {
+    @Index(name = "idx_comment_post_delete_created_at", columnList = "post_id, is_delete, created_at, comment_id"),
+    @Index(name = "idx_comment_delete_created_at", columnList = "is_delete, created_at, comment_id"),
+    @Index(name = "idx_comment_user_delete_created_at", columnList = "user_id, is_delete, created_at, comment_id")
+})
 public class Comment extends BaseEntity {
 
   @Id
@@ -0,0 +1,13 @@
+package com.pawstime.pawstime.domain.comment.entity.repository;
+
+import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+import com.pawstime.pawstime.domain.comment.service.CommentCursor;
+import java.util.List;
+
+// 댓글 커서 조회 전용 (엔티티 대신 GetCommentRespDto 로 바로 조회, COUNT 쿼리 없음)
+public interface CommentListQueryRepository {
+
+  // postId, userId 가 null 이면 해당 조건 없이 조회
+  // (작성일, 댓글 ID) 순으로 cursor 이후의 삭제되지 않은 댓글을 limit 건만 조회
+  List<GetCommentRespDto> findCommentList(Long postId, Long userId, CommentCursor cursor, boolean asc, int limit);
+}
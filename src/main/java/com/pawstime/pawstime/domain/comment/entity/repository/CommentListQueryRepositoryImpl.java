@@ -0,0 +1,83 @@
+package com.pawstime.pawstime.domain.comment.entity.repository;
+
+import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+import com.pawstime.pawstime.domain.comment.entity.Comment;
+import com.pawstime.pawstime.domain.comment.service.CommentCursor;
+import com.pawstime.pawstime.domain.post.entity.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+// OFFSET 대신 (작성일, 댓글 ID) 커서 이후의 행만 읽는 댓글 목록 조회
+// comment 테이블의 (post_id | user_id, is_delete, created_at, comment_id) 인덱스 순서대로 읽고 limit 건에서 멈춘다.
+@RequiredArgsConstructor
+public class CommentListQueryRepositoryImpl implements CommentListQueryRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public List<GetCommentRespDto> findCommentList(Long postId, Long userId, CommentCursor cursor, boolean asc, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<GetCommentRespDto> query = cb.createQuery(GetCommentRespDto.class);
+    Root<Comment> root = query.from(Comment.class);
+    Join<Comment, Post> post = root.join("post");
+
+    Path<LocalDateTime> createdAt = root.get("createdAt");
+    Path<Long> commentId = root.get("commentId");
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(cb.isFalse(root.get("isDelete")));
+    if (postId != null) {
+      predicates.add(cb.equal(post.get("postId"), postId));
+    }
+    if (userId != null) {
+      predicates.add(cb.equal(root.get("user").get("userId"), userId));  // FK 값만 사용 (users 조인 없음)
+    }
+    if (cursor != null) {
+      predicates.add(afterCursor(cb, createdAt, commentId, cursor, asc));
+    }
+    query.where(predicates.toArray(Predicate[]::new));
+
+    query.select(cb.construct(GetCommentRespDto.class,
+        commentId,
+        root.get("content"),
+        post.get("board").get("boardId"),
+        post.get("postId"),
+        root.get("user").get("userId"),
+        createdAt,
+        root.get("updatedAt")
+    ));
+
+    // 작성일이 같은 댓글은 댓글 ID 로 순서를 고정
+    query.orderBy(asc
+        ? List.of(cb.asc(createdAt), cb.asc(commentId))
+        : List.of(cb.desc(createdAt), cb.desc(commentId)));
+
+    return entityManager.createQuery(query)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  // (createdAt, commentId) 가 커서 값보다 뒤에 있는 행 : createdAt > v OR (createdAt = v AND commentId > id), 내림차순이면 부등호 반대
+  private Predicate afterCursor(CriteriaBuilder cb, Path<LocalDateTime> createdAt, Path<Long> commentId,
+      CommentCursor cursor, boolean asc) {
+    if (asc) {
+      return cb.or(
+          cb.greaterThan(createdAt, cursor.createdAt()),
+          cb.and(cb.equal(createdAt, cursor.createdAt()), cb.greaterThan(commentId, cursor.commentId()))
+      );
+    }
+    return cb.or(
+        cb.lessThan(createdAt, cursor.createdAt()),
+        cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(commentId, cursor.commentId()))
+    );
+  }
+}
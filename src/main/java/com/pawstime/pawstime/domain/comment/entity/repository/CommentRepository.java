@@ -1,29 +1,46 @@
 package com.pawstime.pawstime.domain.comment.entity.repository;
 
+import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
 import com.pawstime.pawstime.domain.comment.entity.Comment;
 import com.pawstime.pawstime.domain.post.entity.Post;
-import com.pawstime.pawstime.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentListQueryRepository {
 
   @Query("SELECT p FROM Post p WHERE p.postId = :postId AND p.isDelete = false")
   Post findPostByIdQuery(Long postId);
 
-  @Query("SELECT c FROM Comment c WHERE c.isDelete = false")
-  Page<Comment> findAllQuery(Pageable pageable);
+  // 댓글 목록은 게시글/게시판/작성자 엔티티를 로딩하지 않고 FK 값만 조회 (페이지당 조회 + COUNT 2개 쿼리)
+  String COMMENT_ROW = "SELECT new com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto("
+      + "c.commentId, c.content, p.board.boardId, p.postId, c.user.userId, c.createdAt, c.updatedAt) "
+      + "FROM Comment c JOIN c.post p ";
 
-  @Query("SELECT c FROM Comment c WHERE c.post.postId = :postId AND c.isDelete = false")
-  Page<Comment> findAllByPostQuery(Long postId, Pageable pageable);
+  @Query(value = COMMENT_ROW + "WHERE c.isDelete = false",
+      countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.isDelete = false")
+  Page<GetCommentRespDto> findAllQuery(Pageable pageable);
+
+  @Query(value = COMMENT_ROW + "WHERE p.postId = :postId AND c.isDelete = false",
+      countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.postId = :postId AND c.isDelete = false")
+  Page<GetCommentRespDto> findAllByPostQuery(@Param("postId") Long postId, Pageable pageable);
 
   long countByPost(Post post);
 
-  Page<Comment> findByUser(Pageable pageable, User user);
+  @Query(value = COMMENT_ROW + "WHERE c.user.userId = :userId",
+      countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.user.userId = :userId")
+  Page<GetCommentRespDto> findAllByUserQuery(@Param("userId") Long userId, Pageable pageable);
+
+  // 삭제되지 않은 댓글만 삭제 처리 (동시에 삭제 요청이 와도 한 번만 1 반환)
+  @Modifying
+  @Query("UPDATE Comment c SET c.isDelete = true, c.updatedAt = :now WHERE c.commentId = :commentId AND c.isDelete = false")
+  int softDeleteIfActive(@Param("commentId") Long commentId, @Param("now") LocalDateTime now);
 }
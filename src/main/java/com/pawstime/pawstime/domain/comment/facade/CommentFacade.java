@@ -4,28 +4,34 @@ import com.pawstime.pawstime.domain.comment.dto.req.CreateCommentReqDto;
 import com.pawstime.pawstime.domain.comment.dto.req.UpdateCommentReqDto;
 import com.pawstime.pawstime.domain.comment.dto.resp.CreateCommentRespDto;
 import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+import com.pawstime.pawstime.domain.comment.dto.resp.GetScrollCommentRespDto;
 import com.pawstime.pawstime.domain.comment.entity.Comment;
 import com.pawstime.pawstime.domain.comment.entity.repository.CommentRepository;
 import com.pawstime.pawstime.domain.comment.service.CreateCommentService;
 import com.pawstime.pawstime.domain.comment.service.ReadCommentService;
-import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
+import com.pawstime.pawstime.domain.comment.stream.CommentChangedEvent;
+import com.pawstime.pawstime.domain.comment.stream.CommentStreamHub;
 import com.pawstime.pawstime.domain.post.entity.Post;
+import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
 import com.pawstime.pawstime.domain.user.entity.User;
 import com.pawstime.pawstime.domain.user.service.read.ReadUserService;
 import com.pawstime.pawstime.global.exception.ForbiddenException;
 import com.pawstime.pawstime.global.exception.InvalidException;
 import com.pawstime.pawstime.global.exception.NotFoundException;
-import com.pawstime.pawstime.global.exception.UnauthorizedException;
 import com.pawstime.pawstime.global.jwt.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Transactional
@@ -33,17 +39,19 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentFacade {
 
+  private static final int MAX_SCROLL_SIZE = 100;
+
   private final ReadCommentService readCommentService;
   private final CreateCommentService createCommentService;
   private final JwtUtil jwtUtil;
   private final ReadUserService readUserService;
+  private final CommentRepository commentRepository;
+  private final PostRepository postRepository;
+  private final CommentStreamHub commentStreamHub;
+  private final ApplicationEventPublisher eventPublisher;
 
   public CreateCommentRespDto createComment(Long postId, CreateCommentReqDto req, HttpServletRequest httpServletRequest) {
-    Long userId = jwtUtil.getUserIdFromToken(httpServletRequest);
-
-    if (userId == null) {
-      throw new UnauthorizedException("로그인해주세요.");
-    }
+    Long userId = jwtUtil.requirePrincipal(httpServletRequest).userId();
 
     User user = readUserService.findUserByUserIdQuery(userId);
 
@@ -68,6 +76,13 @@ public class CommentFacade {
     // 새로운 댓글 생성
     Comment createdComment = createCommentService.createComment(comment);
 
+    // 게시글의 댓글 수 증가 (게시글 행을 읽지 않고 SQL 로 원자적으로 처리)
+    postRepository.addCommentCount(postId, 1);
+
+    // 커밋 후 실시간 댓글 스트림 구독자에게 전달
+    eventPublisher.publishEvent(CommentChangedEvent.created(
+        GetCommentRespDto.from(createdComment, post.getBoard().getBoardId())));
+
     // 생성된 댓글을 기반으로 응답 DTO 생성
     return CreateCommentRespDto.from(createdComment); // 응답 DTO 반환
   }
@@ -79,7 +94,7 @@ public class CommentFacade {
     Pageable pageable = PageRequest
         .of(pageNo, pageSize, Sort.by(Sort.Direction.fromString(direction), sortBy));
 
-    return readCommentService.getCommentAll(pageable).map(comment -> GetCommentRespDto.from(comment, comment.getPost().getBoard().getBoardId()));
+    return readCommentService.getCommentAll(pageable);
   }
 
   @Transactional(readOnly = true)
@@ -95,18 +110,12 @@ public class CommentFacade {
     Pageable pageable = PageRequest
         .of(pageNo, pageSize, Sort.by(Sort.Direction.fromString(direction), sortBy));
 
-    return readCommentService.getCommentByPost(postId, pageable).map(comment -> GetCommentRespDto.from(comment, comment.getPost().getBoard().getBoardId()));
+    return readCommentService.getCommentByPost(postId, pageable);
   }
 
   public void deleteComment(Long postId, Long commentId, HttpServletRequest httpServletRequest) {
     Comment comment = readCommentService.findById(commentId);
 
-    if (!comment.getUser().getUserId().equals(jwtUtil.getUserIdFromToken(httpServletRequest))) {
-      if (!jwtUtil.getUserRoleFromToken(httpServletRequest).equals("ADMIN")) {
-        throw new ForbiddenException("권한이 없습니다.");
-      }
-    }
-
     if (comment == null) {
       throw new NotFoundException("존재하지 않는 댓글 ID입니다.");
     }
@@ -115,24 +124,25 @@ public class CommentFacade {
       throw new NotFoundException("이미 삭제된 댓글입니다.");
     }
 
+    if (!jwtUtil.requirePrincipal(httpServletRequest).isOwnerOrAdmin(comment.getUser().getUserId())) {
+      throw new ForbiddenException("권한이 없습니다.");
+    }
+
     if (!comment.getPost().getPostId().equals(postId)) {
       throw new InvalidException("잘못된 요청입니다. 해당 댓글이 지정된 게시글에 존재하지 않습니다.");
     }
 
-    comment.softDelete();
-    createCommentService.createComment(comment);
+    // 같은 댓글에 대한 동시 삭제 요청에도 댓글 수는 한 번만 줄어들도록 삭제된 경우에만 감소
+    if (commentRepository.softDeleteIfActive(commentId, LocalDateTime.now()) > 0) {
+      postRepository.addCommentCount(postId, -1);
+      eventPublisher.publishEvent(CommentChangedEvent.deleted(postId, commentId));
+    }
   }
 
   public void updateComment(Long postId, Long commentId, UpdateCommentReqDto req, HttpServletRequest httpServletRequest){
     //입력받은 commentId로 해당 댓글 조회
     Comment comment = readCommentService.findById(commentId);
 
-    if (!comment.getUser().getUserId().equals(jwtUtil.getUserIdFromToken(httpServletRequest))) {
-      if (!jwtUtil.getUserRoleFromToken(httpServletRequest).equals("ADMIN")) {
-        throw new ForbiddenException("권한이 없습니다.");
-      }
-    }
-
     if (comment == null) {
       throw new NotFoundException("존재하지 않는 댓글입니다.");
     }
@@ -141,6 +151,10 @@ public class CommentFacade {
       throw new NotFoundException("이미 삭제된 댓글입니다.");
     }
 
+    if (!jwtUtil.requirePrincipal(httpServletRequest).isOwnerOrAdmin(comment.getUser().getUserId())) {
+      throw new ForbiddenException("권한이 없습니다.");
+    }
+
     if (!comment.getPost().getPostId().equals(postId)) {
       throw new InvalidException("잘못된 요청입니다. 해당 댓글이 지정된 게시글에 존재하지 않습니다.");
     }
@@ -148,16 +162,65 @@ public class CommentFacade {
     //수정된 내용 반영
     comment.updateComment(req.content());
 
-    //변경된 댓글 저장
+    //변경된 댓글 저장 (수정일이 반영되도록 바로 flush)
     createCommentService.createComment(comment);
+    commentRepository.flush();
+
+    eventPublisher.publishEvent(CommentChangedEvent.updated(
+        GetCommentRespDto.from(comment, comment.getPost().getBoard().getBoardId())));
   }
 
+  @Transactional(readOnly = true)
   public Page<GetCommentRespDto> getCommentListByUser(int pageNo, int pageSize, String sortBy, String direction, HttpServletRequest httpServletRequest) {
-    Long userId = jwtUtil.getUserIdFromToken(httpServletRequest);
-    User user = readUserService.findUserByUserIdQuery(userId);
+    // 토큰의 userId 로 바로 조회 (사용자 엔티티 조회 불필요)
+    Long userId = jwtUtil.requirePrincipal(httpServletRequest).userId();
 
     Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by(Sort.Direction.fromString(direction), sortBy));
 
-    return readCommentService.findByUser(pageable, user).map(comment -> GetCommentRespDto.from(comment, comment.getPost().getBoard().getBoardId()));
+    return readCommentService.findByUser(pageable, userId);
+  }
+
+  // 커서 조회 : 전체 댓글 (관리자)
+  @Transactional(readOnly = true)
+  public GetScrollCommentRespDto getCommentAllScroll(String cursor, int size, String direction) {
+    validateScrollSize(size);
+    return readCommentService.getCommentScroll(null, null, cursor, size, direction);
+  }
+
+  // 커서 조회 : 특정 게시글의 댓글
+  @Transactional(readOnly = true)
+  public GetScrollCommentRespDto getCommentByPostScroll(Long postId, String cursor, int size, String direction) {
+    validateScrollSize(size);
+
+    if (readCommentService.getPostById(postId) == null) {
+      throw new NotFoundException("존재하지 않는 게시글 ID입니다.");
+    }
+
+    return readCommentService.getCommentScroll(postId, null, cursor, size, direction);
+  }
+
+  // 커서 조회 : 현재 로그인한 사용자가 작성한 댓글
+  @Transactional(readOnly = true)
+  public GetScrollCommentRespDto getCommentListByUserScroll(String cursor, int size, String direction, HttpServletRequest httpServletRequest) {
+    validateScrollSize(size);
+    Long userId = jwtUtil.requirePrincipal(httpServletRequest).userId();
+
+    return readCommentService.getCommentScroll(null, userId, cursor, size, direction);
+  }
+
+  // 실시간 댓글 스트림 구독
+  // 연결이 오래 유지되므로 트랜잭션 없이 처리 (커넥션을 점유하지 않음)
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public SseEmitter subscribeComments(Long postId) {
+    if (!readCommentService.existsActivePost(postId)) {
+      throw new NotFoundException("존재하지 않는 게시글 ID입니다.");
+    }
+    return commentStreamHub.subscribe(postId);
+  }
+
+  private void validateScrollSize(int size) {
+    if (size < 1 || size > MAX_SCROLL_SIZE) {
+      throw new InvalidException("size 는 1 이상 " + MAX_SCROLL_SIZE + " 이하로 입력해주세요.");
+    }
   }
 }
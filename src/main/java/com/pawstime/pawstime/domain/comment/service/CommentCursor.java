@@ -0,0 +1,50 @@
+package com.pawstime.pawstime.domain.comment.service;
+
+import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+import com.pawstime.pawstime.global.exception.InvalidException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 기반 댓글 목록 조회용 커서
+// 댓글은 작성일 순으로만 조회하므로 (정렬 방향, 마지막 댓글 ID, 마지막 댓글 작성일)을 base64url 문자열로 만들어 전달한다.
+public record CommentCursor(String direction, Long commentId, LocalDateTime createdAt) {
+
+  private static final String DELIMITER = "|";
+
+  public static String normalizeDirection(String direction) {
+    return "asc".equalsIgnoreCase(direction) ? "asc" : "desc";
+  }
+
+  // 페이지의 마지막 댓글로 다음 커서 생성
+  public static CommentCursor of(GetCommentRespDto comment, String direction) {
+    return new CommentCursor(direction, comment.commentId(), comment.createAt());
+  }
+
+  public String encode() {
+    String raw = direction + DELIMITER + commentId + DELIMITER + createdAt;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 요청한 정렬 방향과 다른 커서이거나 변조된 커서는 거부
+  public static CommentCursor decode(String cursor, String direction) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 3);
+
+      CommentCursor decoded = new CommentCursor(parts[0], Long.valueOf(parts[1]), LocalDateTime.parse(parts[2]));
+      if (!decoded.direction().equals(direction)) {
+        throw new InvalidException("커서의 정렬 조건이 요청과 일치하지 않습니다.");
+      }
+      return decoded;
+    } catch (InvalidException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new InvalidException("유효하지 않은 커서입니다.");
+    }
+  }
+
+  public boolean isAsc() {
+    return "asc".equals(direction);
+  }
+}
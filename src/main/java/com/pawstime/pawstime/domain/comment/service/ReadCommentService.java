@@ -1,12 +1,15 @@
 package com.pawstime.pawstime.domain.comment.service;
 
+import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+import com.pawstime.pawstime.domain.comment.dto.resp.GetScrollCommentRespDto;
 import com.pawstime.pawstime.domain.comment.entity.Comment;
 import com.pawstime.pawstime.domain.comment.entity.repository.CommentRepository;
 import com.pawstime.pawstime.domain.post.entity.Post;
-import com.pawstime.pawstime.domain.user.entity.User;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -14,24 +17,50 @@ import org.springframework.stereotype.Service;
 public class ReadCommentService {
 
   private final CommentRepository commentRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   public Post getPostById(Long postId) {
     return commentRepository.findPostByIdQuery(postId);
   }
 
-  public Page<Comment> getCommentAll(Pageable pageable) {
+  public Page<GetCommentRespDto> getCommentAll(Pageable pageable) {
     return commentRepository.findAllQuery(pageable);
   }
 
-  public Page<Comment> getCommentByPost(Long postId, Pageable pageable) {
+  public Page<GetCommentRespDto> getCommentByPost(Long postId, Pageable pageable) {
     return commentRepository.findAllByPostQuery(postId, pageable);
   }
 
+  // 삭제되지 않은 게시글인지 확인
+  // 실시간 스트림처럼 요청이 오래 유지되는 경우 영속성 컨텍스트(OSIV)가 DB 커넥션을 잡고 있지 않도록 JDBC 로 조회
+  public boolean existsActivePost(Long postId) {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+        "SELECT EXISTS(SELECT 1 FROM post WHERE post_id = ? AND is_delete = false)", Boolean.class, postId));
+  }
+
   public Comment findById(Long commentId) {
     return commentRepository.findById(commentId).orElse(null);
   }
 
-  public Page<Comment> findByUser(Pageable pageable, User user) {
-    return commentRepository.findByUser(pageable, user);
+  public Page<GetCommentRespDto> findByUser(Pageable pageable, Long userId) {
+    return commentRepository.findAllByUserQuery(userId, pageable);
+  }
+
+  // 댓글 목록 커서 조회
+  // COUNT 쿼리 없이 size + 1 건으로 다음 페이지 여부를 판단
+  public GetScrollCommentRespDto getCommentScroll(Long postId, Long userId, String cursor, int size, String direction) {
+    String sortDirection = CommentCursor.normalizeDirection(direction);
+    CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor, sortDirection);
+
+    List<GetCommentRespDto> comments = commentRepository.findCommentList(
+        postId, userId, after, "asc".equals(sortDirection), size + 1);
+
+    boolean hasNext = comments.size() > size;
+    if (hasNext) {
+      comments = comments.subList(0, size);
+    }
+    String nextCursor = hasNext ? CommentCursor.of(comments.get(comments.size() - 1), sortDirection).encode() : null;
+
+    return new GetScrollCommentRespDto(comments, nextCursor, hasNext);
   }
 }
@@ -0,0 +1,29 @@
+package com.pawstime.pawstime.domain.comment.stream;
+
+import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+
+// 댓글 작성/수정/삭제 후 발행 (트랜잭션 커밋 후 실시간 댓글 스트림으로 전달)
+// 삭제 이벤트는 comment 가 null
+public record CommentChangedEvent(Type type, Long postId, Long commentId, GetCommentRespDto comment) {
+
+  public enum Type {
+    CREATED, UPDATED, DELETED;
+
+    // SSE event 이름 (comment-created 등)
+    public String eventName() {
+      return "comment-" + name().toLowerCase();
+    }
+  }
+
+  public static CommentChangedEvent created(GetCommentRespDto comment) {
+    return new CommentChangedEvent(Type.CREATED, comment.postId(), comment.commentId(), comment);
+  }
+
+  public static CommentChangedEvent updated(GetCommentRespDto comment) {
+    return new CommentChangedEvent(Type.UPDATED, comment.postId(), comment.commentId(), comment);
+  }
+
+  public static CommentChangedEvent deleted(Long postId, Long commentId) {
+    return new CommentChangedEvent(Type.DELETED, postId, commentId, null);
+  }
+}
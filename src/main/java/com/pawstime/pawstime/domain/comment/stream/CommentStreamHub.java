@@ -0,0 +1,225 @@
+package com.pawstime.pawstime.domain.comment.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawstime.pawstime.global.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 게시글별 실시간 댓글 스트림 (SSE)
+// 댓글 변경 이벤트 하나를 한 번만 직렬화해서 해당 게시글 구독자들에게 나눠 보낸다.
+// 구독자마다 크기가 제한된 전송 대기열을 두고, 대기열이 가득 찬(느린) 구독자는 연결을 끊어 다른 구독자와 요청 스레드가 기다리지 않게 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentStreamHub {
+
+  private final ObjectMapper objectMapper;
+
+  @Value("${comment.stream.max-subscribers:10000}")
+  private int maxSubscribers;
+
+  @Value("${comment.stream.max-subscribers-per-post:1000}")
+  private int maxSubscribersPerPost;
+
+  // 구독자 수 제한에 걸렸을 때 클라이언트에게 안내하는 재시도 대기 시간 (Retry-After)
+  @Value("${comment.stream.retry-after-seconds:30}")
+  private long retryAfterSeconds;
+
+  // 구독자별 전송 대기열 크기
+  @Value("${comment.stream.buffer-size:32}")
+  private int bufferSize;
+
+  // 연결 유지 시간 (만료되면 클라이언트(EventSource)가 다시 연결)
+  @Value("${comment.stream.timeout-ms:1800000}")
+  private long timeoutMs;
+
+  @Value("${comment.stream.send-threads:4}")
+  private int sendThreads;
+
+  // postId -> 구독자
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+
+  private ExecutorService sendExecutor;
+
+  @PostConstruct
+  public void init() {
+    AtomicInteger sequence = new AtomicInteger();
+    sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+      Thread thread = new Thread(runnable, "comment-stream-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sendExecutor.shutdownNow();
+    subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+  }
+
+  // 게시글 댓글 스트림 구독
+  public SseEmitter subscribe(Long postId) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new ServiceUnavailableException("실시간 댓글 구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요.",
+          retryAfterSeconds);
+    }
+
+    Subscriber subscriber = new Subscriber(postId, new SseEmitter(timeoutMs), new ArrayBlockingQueue<>(bufferSize));
+    AtomicBoolean added = new AtomicBoolean();
+    subscribers.compute(postId, (key, set) -> {
+      Set<Subscriber> current = set == null ? ConcurrentHashMap.newKeySet() : set;
+      if (current.size() < maxSubscribersPerPost) {
+        added.set(current.add(subscriber));
+      }
+      return current.isEmpty() ? null : current;
+    });
+    if (!added.get()) {
+      subscriberCount.decrementAndGet();
+      throw new ServiceUnavailableException("이 게시글의 실시간 댓글 구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요.",
+          retryAfterSeconds);
+    }
+
+    subscriber.emitter.onCompletion(() -> remove(subscriber));
+    subscriber.emitter.onTimeout(() -> remove(subscriber));
+    subscriber.emitter.onError(e -> remove(subscriber));
+
+    // 연결 직후 응답 헤더가 바로 전송되도록 첫 이벤트 전송
+    enqueue(subscriber, SseEmitter.event().name("connected").data(postId).build());
+    return subscriber.emitter;
+  }
+
+  // 댓글 변경이 커밋된 뒤에만 전달 (롤백된 변경은 보내지 않음)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onCommentChanged(CommentChangedEvent event) {
+    Set<Subscriber> set = subscribers.get(event.postId());
+    if (set == null || set.isEmpty()) {
+      return;
+    }
+
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      log.error("댓글 스트림 이벤트 직렬화 실패: {}", e.getMessage(), e);
+      return;
+    }
+
+    Set<DataWithMediaType> message = SseEmitter.event()
+        .id(String.valueOf(event.commentId()))
+        .name(event.type().eventName())
+        .data(payload)
+        .build();
+    set.forEach(subscriber -> enqueue(subscriber, message));
+  }
+
+  // 프록시 등에서 유휴 연결이 끊기지 않도록 주기적으로 주석 전송 (끊어진 연결도 이때 정리됨)
+  @Scheduled(fixedDelayString = "${comment.stream.heartbeat-interval-ms:15000}")
+  public void heartbeat() {
+    if (subscriberCount.get() == 0) {
+      return;
+    }
+    Set<DataWithMediaType> message = SseEmitter.event().comment("heartbeat").build();
+    subscribers.values().forEach(set -> set.forEach(subscriber -> enqueue(subscriber, message)));
+  }
+
+  public int getSubscriberCount() {
+    return subscriberCount.get();
+  }
+
+  private void enqueue(Subscriber subscriber, Set<DataWithMediaType> message) {
+    if (subscriber.closed.get()) {
+      return;
+    }
+    if (!subscriber.queue.offer(message)) {
+      log.debug("댓글 스트림 전송 지연으로 구독 해제: postId={}", subscriber.postId);
+      close(subscriber);
+      return;
+    }
+    // 구독자별로 한 번에 하나의 전송 작업만 실행 (이벤트 순서 유지)
+    if (subscriber.draining.compareAndSet(false, true)) {
+      try {
+        sendExecutor.execute(() -> drain(subscriber));
+      } catch (RejectedExecutionException e) {
+        close(subscriber);
+      }
+    }
+  }
+
+  private void drain(Subscriber subscriber) {
+    do {
+      Set<DataWithMediaType> message;
+      while ((message = subscriber.queue.poll()) != null) {
+        try {
+          subscriber.emitter.send(message);
+        } catch (IOException | IllegalStateException e) {
+          close(subscriber);  // 클라이언트가 연결을 끊은 경우
+          return;
+        }
+      }
+      subscriber.draining.set(false);
+      // 플래그를 내리는 사이에 들어온 메시지가 있으면 이어서 전송
+    } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+  }
+
+  private void close(Subscriber subscriber) {
+    if (subscriber.closed.compareAndSet(false, true)) {
+      subscriber.queue.clear();
+      remove(subscriber);
+      try {
+        subscriber.emitter.complete();
+      } catch (Exception ignored) {
+        // 이미 종료된 연결
+      }
+    }
+  }
+
+  private void remove(Subscriber subscriber) {
+    subscriber.closed.set(true);
+    AtomicBoolean removed = new AtomicBoolean();
+    subscribers.computeIfPresent(subscriber.postId, (key, set) -> {
+      removed.set(set.remove(subscriber));
+      return set.isEmpty() ? null : set;
+    });
+    if (removed.get()) {
+      subscriberCount.decrementAndGet();
+    }
+  }
+
+  private static final class Subscriber {
+
+    private final Long postId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Subscriber(Long postId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+      this.postId = postId;
+      this.emitter = emitter;
+      this.queue = queue;
+    }
+  }
+}
@@ -7,8 +7,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
@@ -18,6 +20,26 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     @Query("SELECT i FROM Image i WHERE i.post.postId = :postId")
     List<Image> getImages(Long postId);
 
-    @Query("SELECT i FROM Image i ORDER BY RAND()")
-    Page<Image> getRandomImages(Pageable pageable);
+    // 여러 게시글의 대표 이미지(게시글별 첫 번째 이미지)를 한 번에 조회 : [post_id, image_id, image_url]
+    // 삭제되지 않은 게시글만 반환하고, 이미지가 없는 게시글은 image_id, image_url 이 null
+    @Query(value = "SELECT p.post_id, i.image_id, i.image_url FROM post p "
+        + "LEFT JOIN (SELECT post_id, MIN(image_id) AS image_id FROM image WHERE post_id IN (:postIds) GROUP BY post_id) f "
+        + "ON f.post_id = p.post_id "
+        + "LEFT JOIN image i ON i.image_id = f.image_id "
+        + "WHERE p.post_id IN (:postIds) AND p.is_delete = false", nativeQuery = true)
+    List<Object[]> findThumbnails(@Param("postIds") Collection<Long> postIds);
+
+    // 랜덤 이미지 표본 추출용 : 이미지 ID 범위 (MIN, MAX)
+    @Query("SELECT MIN(i.imageId), MAX(i.imageId) FROM Image i")
+    List<Object[]> findImageIdRange();
+
+    // 랜덤으로 뽑은 ID 중 실제로 존재하고, 삭제되지 않은 게시글의 (기본 이미지가 아닌) 이미지만 조회
+    @Query("SELECT new com.pawstime.pawstime.domain.image.dto.resp.GetImageRespDto(i.imageId, i.imageUrl, p.postId) "
+        + "FROM Image i JOIN i.post p WHERE i.imageId IN :imageIds AND p.isDelete = false AND i.isDefault = false")
+    List<GetImageRespDto> findRandomCandidates(Collection<Long> imageIds);
+
+    // 이미지 수가 적을 때는 표본 추출 없이 전부 조회
+    @Query("SELECT new com.pawstime.pawstime.domain.image.dto.resp.GetImageRespDto(i.imageId, i.imageUrl, p.postId) "
+        + "FROM Image i JOIN i.post p WHERE p.isDelete = false AND i.isDefault = false")
+    List<GetImageRespDto> findAllRandomCandidates();
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.pawstime.pawstime.domain.image.service;
+
+import com.pawstime.pawstime.aws.s3.service.S3Service;
+import com.pawstime.pawstime.domain.image.entity.Image;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 이미지가 없는 게시글이 함께 사용하는 기본 이미지
+// 게시글마다 기본 이미지를 새로 업로드하지 않고, 설정된 URL(default.img-url)을 쓰거나
+// 설정이 없으면 고정된 key 로 한 번만 업로드한 URL 을 재사용한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DefaultImageRegistry {
+
+  private static final String DEFAULT_IMAGE_PATH = "static/default-img.jpg";
+  private static final String DEFAULT_IMAGE_KEY = "default/default-img.jpg";
+
+  private final S3Service s3Service;
+
+  @Value("${default.img-url:}")
+  private String configuredUrl;
+
+  private volatile String defaultImageUrl;
+
+  // 공유 기본 이미지 URL (처음 호출될 때 한 번만 결정)
+  public String getDefaultImageUrl() {
+    String url = defaultImageUrl;
+    if (url == null) {
+      synchronized (this) {
+        if (defaultImageUrl == null) {
+          defaultImageUrl = configuredUrl != null && !configuredUrl.isBlank()
+              ? configuredUrl
+              : s3Service.uploadDefaultImageToS3(DEFAULT_IMAGE_PATH, DEFAULT_IMAGE_KEY);
+          log.info("기본 이미지 URL: {}", defaultImageUrl);
+        }
+        url = defaultImageUrl;
+      }
+    }
+    return url;
+  }
+
+  // 게시글에 연결할 기본 이미지 행 (S3 객체는 모든 게시글이 공유)
+  public Image createDefaultImage() {
+    return Image.builder()
+        .imageUrl(getDefaultImageUrl())
+        .isDefault(true)
+        .build();
+  }
+
+  // 공유 기본 이미지이면 S3 에서 삭제하면 안 됨
+  public boolean isSharedDefault(Image image) {
+    return image.isDefault() || image.getImageUrl().equals(defaultImageUrl) || image.getImageUrl().equals(configuredUrl);
+  }
+}
@@ -0,0 +1,122 @@
+package com.pawstime.pawstime.domain.image.service;
+
+import com.pawstime.pawstime.domain.image.dto.resp.GetImageRespDto;
+import com.pawstime.pawstime.domain.image.entity.repository.ImageRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 메인페이지 랜덤 이미지 풀
+// ORDER BY RAND() 로 image 테이블 전체를 정렬하지 않고, 임의의 이미지 ID 를 찍어서(PK 조회) 표본을 만들어 두고
+// 요청마다 메모리의 표본에서 뽑는다. 표본은 주기적으로 새로 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RandomImagePool {
+
+  private static final int POOL_SIZE = 200;
+  private static final int PROBE_BATCH_SIZE = 400;
+  private static final int MAX_PROBE_ROUNDS = 10;
+
+  private final ImageRepository imageRepository;
+
+  private volatile List<GetImageRespDto> pool = List.of();
+
+  // 시작 시 갱신과 스케줄 갱신이 겹쳐도 표본 조회는 한 번만 진행
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    refresh();
+  }
+
+  // 표본 다시 만들기 (이미 갱신 중이면 건너뜀)
+  @Scheduled(fixedDelayString = "${image.random-pool.refresh-interval-ms:60000}")
+  public void refresh() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      pool = List.copyOf(sample());
+      log.debug("랜덤 이미지 풀 갱신: {}건", pool.size());
+    } catch (Exception e) {
+      // 실패하면 기존 표본을 계속 사용
+      log.error("랜덤 이미지 풀 갱신 실패: {}", e.getMessage(), e);
+    } finally {
+      refreshing.set(false);
+    }
+  }
+
+  // 표본에서 중복 없이 count 개 추출 (DB 접근 없음)
+  // 표본이 아직 만들어지지 않았거나 갱신에 실패했으면 현재(비어 있을 수 있는) 표본을 그대로 사용하고, 갱신은 스케줄에 맡김
+  public List<GetImageRespDto> draw(int count) {
+    List<GetImageRespDto> current = pool;
+    if (current.size() <= count) {
+      return current;
+    }
+
+    // 부분 Fisher-Yates : 앞에서부터 count 개만 섞어서 사용
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    List<GetImageRespDto> shuffled = new ArrayList<>(current);
+    for (int i = 0; i < count; i++) {
+      int j = i + random.nextInt(shuffled.size() - i);
+      GetImageRespDto tmp = shuffled.get(i);
+      shuffled.set(i, shuffled.get(j));
+      shuffled.set(j, tmp);
+    }
+    return List.copyOf(shuffled.subList(0, count));
+  }
+
+  // 게시글 삭제 시 다음 갱신 전까지도 노출되지 않도록 표본에서 제거
+  public void evictPost(Long postId) {
+    List<GetImageRespDto> current = pool;
+    if (current.stream().anyMatch(image -> Objects.equals(image.postId(), postId))) {
+      pool = current.stream()
+          .filter(image -> !Objects.equals(image.postId(), postId))
+          .toList();
+    }
+  }
+
+  private List<GetImageRespDto> sample() {
+    List<Object[]> range = imageRepository.findImageIdRange();
+    if (range.isEmpty() || range.get(0)[0] == null) {
+      return List.of();
+    }
+    long minId = ((Number) range.get(0)[0]).longValue();
+    long maxId = ((Number) range.get(0)[1]).longValue();
+
+    // ID 범위가 작으면 전부 읽어도 비용이 크지 않음
+    if (maxId - minId + 1 <= PROBE_BATCH_SIZE) {
+      return imageRepository.findAllRandomCandidates();
+    }
+
+    // ID 범위에서 임의의 ID 를 골라 PK 로 조회 (삭제되어 비어 있는 ID 는 다음 라운드에서 다시 시도)
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Map<Long, GetImageRespDto> sampled = new LinkedHashMap<>();
+    for (int round = 0; round < MAX_PROBE_ROUNDS && sampled.size() < POOL_SIZE; round++) {
+      Set<Long> probes = new HashSet<>();
+      while (probes.size() < PROBE_BATCH_SIZE) {
+        probes.add(random.nextLong(minId, maxId + 1));
+      }
+      for (GetImageRespDto image : imageRepository.findRandomCandidates(probes)) {
+        if (sampled.size() >= POOL_SIZE) {
+          break;
+        }
+        sampled.putIfAbsent(image.imageId(), image);
+      }
+    }
+    return new ArrayList<>(sampled.values());
+  }
+}
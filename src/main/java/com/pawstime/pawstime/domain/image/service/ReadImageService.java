@@ -3,6 +3,7 @@ package com.pawstime.pawstime.domain.image.service;
 import com.pawstime.pawstime.domain.image.dto.resp.GetImageRespDto;
 import com.pawstime.pawstime.domain.image.entity.Image;
 import com.pawstime.pawstime.domain.image.entity.repository.ImageRepository;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,7 +23,13 @@ public class ReadImageService {
         return imageRepository.getImages(postId);
     }
 
-    public Page<Image> getRandomImages(Pageable pageable) {
-        return imageRepository.getRandomImages(pageable);
+    // 게시글별 대표 이미지 (이미지가 없는 게시글은 imageId, imageUrl 이 null)
+    public List<GetImageRespDto> getThumbnails(Collection<Long> postIds) {
+        return imageRepository.findThumbnails(postIds).stream()
+                .map(row -> new GetImageRespDto(
+                        row[1] == null ? null : ((Number) row[1]).longValue(),
+                        (String) row[2],
+                        ((Number) row[0]).longValue()))
+                .toList();
     }
-}
\ No newline at end of file
+}
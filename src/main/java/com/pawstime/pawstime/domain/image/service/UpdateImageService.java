@@ -20,6 +20,7 @@ public class UpdateImageService {
 
     private final ImageRepository imageRepository;
     private final S3Service s3Service;
+    private final DefaultImageRegistry defaultImageRegistry;
 
     @Transactional
     public List<Long> deleteImagesFromPost(List<Long> deletedImageIds, Post post) {
@@ -32,11 +33,13 @@ public class UpdateImageService {
             String imageUrl = image.getImageUrl();
             String fileName = extractFileNameFromUrl(imageUrl);
 
-            // S3에서 파일 삭제
-            try {
-                s3Service.deleteFile(fileName);
-            } catch (Exception e) {
-                throw new RuntimeException("S3 파일 삭제 실패: " + fileName, e);
+            // S3에서 파일 삭제 (여러 게시글이 공유하는 기본 이미지는 행만 삭제)
+            if (!defaultImageRegistry.isSharedDefault(image)) {
+                try {
+                    s3Service.deleteFile(fileName);
+                } catch (Exception e) {
+                    throw new RuntimeException("S3 파일 삭제 실패: " + fileName, e);
+                }
             }
 
             post.getImages().remove(image);
@@ -51,26 +54,28 @@ public class UpdateImageService {
     public List<Map<String, Object>> addNewImagesToPost(List<MultipartFile> newImages, Post post) {
         List<Map<String, Object>> addedImages = new ArrayList<>();
 
-        for (MultipartFile newImage : newImages) {
-            String uploadedUrl;
-            try {
-                uploadedUrl = s3Service.uploadFile(Collections.singletonList(newImage)).get(0);
-            } catch (Exception e) {
-                throw new RuntimeException("S3 업로드 실패", e);
-            }
-
-            Image image = Image.builder()
-                    .imageUrl(uploadedUrl)
-                    .post(post)
-                    .build();
-
-            imageRepository.save(image);
-            post.getImages().add(image);
+        // 새 이미지를 한 번에 병렬 업로드 (결과는 입력 순서, 하나라도 실패하면 전체 실패)
+        List<String> uploadedUrls = s3Service.uploadFile(newImages);
 
-            Map<String, Object> imageInfo = new HashMap<>();
-            imageInfo.put("imageId", image.getImageId());
-            imageInfo.put("imageUrl", uploadedUrl);
-            addedImages.add(imageInfo);
+        try {
+            for (String uploadedUrl : uploadedUrls) {
+                Image image = Image.builder()
+                        .imageUrl(uploadedUrl)
+                        .post(post)
+                        .build();
+
+                imageRepository.save(image);
+                post.getImages().add(image);
+
+                Map<String, Object> imageInfo = new HashMap<>();
+                imageInfo.put("imageId", image.getImageId());
+                imageInfo.put("imageUrl", uploadedUrl);
+                addedImages.add(imageInfo);
+            }
+        } catch (RuntimeException e) {
+            // DB 저장에 실패하면 업로드한 파일이 남지 않도록 삭제
+            s3Service.deleteUploadedFiles(uploadedUrls);
+            throw e;
         }
 
         return addedImages;
@@ -0,0 +1,146 @@
+package com.pawstime.pawstime.domain.info.cache;
+
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoRefreshedEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+// 정보 API 응답 캐시 (직렬화된 JSON 바이트 + gzip 압축본 + ETag)
+// 전체 크기(byte)를 기준으로 가장 오래 사용되지 않은 응답부터 제거하고, 정보 스냅샷이 교체되면 모두 비운다.
+@Slf4j
+@Component
+public class InfoResponseCache {
+
+  // 이 크기 미만의 응답은 압축하지 않음
+  private static final int GZIP_MIN_BYTES = 1024;
+  // 항목당 고정 비용 (키, 헤더, 맵 노드 등) 추정치
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+  private final long maxBytes;
+  private final long maxEntryBytes;
+
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+  private long totalBytes = 0;
+
+  // 스냅샷이 교체될 때마다 증가 (교체 전에 만든 응답이 교체 후에 저장되지 않도록)
+  private final AtomicLong generation = new AtomicLong();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  public record Entry(String etag, String contentType, byte[] body, byte[] gzipBody) {
+
+    // gzip 본문은 원본과 바이트가 다른 표현이므로 강한 ETag 도 달라야 함 ("<hash>" -> "<hash>-gzip")
+    public String gzipEtag() {
+      return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    long weight(String key) {
+      return body.length + (gzipBody == null ? 0 : gzipBody.length) + key.length() * 2L + ENTRY_OVERHEAD_BYTES;
+    }
+  }
+
+  public InfoResponseCache(@Value("${info.response-cache.max-bytes:33554432}") long maxBytes) {
+    this.maxBytes = maxBytes;
+    this.maxEntryBytes = maxBytes / 8;
+  }
+
+  public synchronized Entry get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      misses.incrementAndGet();
+    } else {
+      hits.incrementAndGet();
+    }
+    return entry;
+  }
+
+  public long generation() {
+    return generation.get();
+  }
+
+  // 응답 저장 (요청 처리 중 스냅샷이 교체되었거나 너무 큰 응답이면 저장하지 않음)
+  public Entry put(String key, String contentType, byte[] body, long requestGeneration) {
+    if (body.length > maxEntryBytes) {
+      return null;
+    }
+    Entry entry = new Entry('"' + DigestUtils.md5DigestAsHex(body) + '"', contentType, body, gzip(body));
+
+    synchronized (this) {
+      if (requestGeneration != generation.get()) {
+        return entry;
+      }
+      Entry previous = entries.put(key, entry);
+      if (previous != null) {
+        totalBytes -= previous.weight(key);
+      }
+      totalBytes += entry.weight(key);
+
+      Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+      while (totalBytes > maxBytes && eldest.hasNext()) {
+        Map.Entry<String, Entry> evicted = eldest.next();
+        totalBytes -= evicted.getValue().weight(evicted.getKey());
+        eldest.remove();
+        evictions.incrementAndGet();
+      }
+    }
+    return entry;
+  }
+
+  @EventListener
+  public void onRefreshed(InfoRefreshedEvent event) {
+    clear();
+  }
+
+  public synchronized void clear() {
+    generation.incrementAndGet();
+    int cleared = entries.size();
+    entries.clear();
+    totalBytes = 0;
+    log.debug("정보 응답 캐시 비움: {}건", cleared);
+  }
+
+  public synchronized int getEntryCount() {
+    return entries.size();
+  }
+
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  private static byte[] gzip(byte[] body) {
+    if (body.length < GZIP_MIN_BYTES) {
+      return null;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    } catch (IOException e) {
+      return null;  // 메모리 스트림이므로 발생하지 않음
+    }
+    byte[] compressed = out.toByteArray();
+    return compressed.length < body.length ? compressed : null;
+  }
+}
@@ -0,0 +1,125 @@
+package com.pawstime.pawstime.domain.info.cache;
+
+import com.pawstime.pawstime.domain.info.cache.InfoResponseCache.Entry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+// GET /info/** 응답을 캐시에서 바로 내려주는 필터
+// 같은 경로 + 파라미터 요청은 컨트롤러, JSON 직렬화를 거치지 않고 저장된 바이트(gzip 지원)로 응답하고,
+// If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답한다. (gzip 본문은 별도의 ETag 사용)
+@Component
+@RequiredArgsConstructor
+public class InfoResponseCacheFilter extends OncePerRequestFilter {
+
+  private static final String CACHED_PATH_PREFIX = "/info/";
+  // 현재 시각에 따라 결과가 달라지는 경로 (at 파라미터가 있을 때만 캐시)
+  private static final String TIME_DEPENDENT_PATH = "/info/shelters/open";
+
+  private final InfoResponseCache infoResponseCache;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    if (!HttpMethod.GET.matches(request.getMethod()) || !path.startsWith(CACHED_PATH_PREFIX)) {
+      return true;
+    }
+    return path.equals(TIME_DEPENDENT_PATH) && request.getParameter("at") == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = cacheKey(request);
+    Entry cached = infoResponseCache.get(key);
+    if (cached != null) {
+      write(request, response, cached, "HIT");
+      return;
+    }
+
+    long generation = infoResponseCache.generation();
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    filterChain.doFilter(request, wrapper);
+
+    String contentType = wrapper.getContentType();
+    boolean cacheable = wrapper.getStatus() == HttpServletResponse.SC_OK
+        && contentType != null
+        && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    if (!cacheable) {
+      wrapper.copyBodyToResponse();
+      return;
+    }
+
+    Entry stored = infoResponseCache.put(key, contentType, wrapper.getContentAsByteArray(), generation);
+    if (stored == null) {
+      wrapper.copyBodyToResponse();
+      return;
+    }
+    // 처음 만든 응답도 캐시된 응답과 같은 방식(ETag, gzip)으로 전송
+    wrapper.resetBuffer();
+    write(request, response, stored, "MISS");
+  }
+
+  private void write(HttpServletRequest request, HttpServletResponse response, Entry entry, String cacheStatus)
+      throws IOException {
+    // 응답할 표현(원본/gzip)을 먼저 정하고, 그 표현의 ETag 로 응답 및 If-None-Match 비교
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    boolean gzip = entry.gzipBody() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+    String etag = gzip ? entry.gzipEtag() : entry.etag();
+
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    response.setHeader("X-Cache", cacheStatus);
+
+    if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    byte[] body = entry.body();
+    if (gzip) {
+      body = entry.gzipBody();
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(entry.contentType());
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  // If-None-Match : "*" 또는 쉼표로 구분된 ETag 목록 (W/ 접두어 무시)
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    return Arrays.stream(ifNoneMatch.split(","))
+        .map(String::trim)
+        .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+        .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+  }
+
+  // 경로 + 이름순으로 정렬한 파라미터 (파라미터 순서가 달라도 같은 키)
+  private static String cacheKey(HttpServletRequest request) {
+    Map<String, String[]> parameters = request.getParameterMap();
+    if (parameters.isEmpty()) {
+      return request.getRequestURI();
+    }
+    return request.getRequestURI() + "?" + parameters.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(parameter -> parameter.getKey() + "=" + String.join(",", parameter.getValue()))
+        .collect(Collectors.joining("&"));
+  }
+}
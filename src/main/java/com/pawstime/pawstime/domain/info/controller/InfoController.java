@@ -2,19 +2,31 @@ package com.pawstime.pawstime.domain.info.controller;
 
 
 import com.pawstime.pawstime.domain.info.dto.resp.GetHospitalInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoFilterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoMapRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoSearchRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetNearbyHospitalRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetNearbyShelterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetOpenShelterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterDetailRespDto;
 import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
 import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.InfoImportRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.InfoRefreshRespDto;
 import com.pawstime.pawstime.domain.info.facade.InfoFacade;
 import com.pawstime.pawstime.global.common.ApiResponse;
 import com.pawstime.pawstime.global.enums.Status;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -29,6 +41,95 @@ public class InfoController {
 
   private final InfoFacade infoFacade;
 
+  @Operation(summary = "내 주변 동물 병원 조회", description = "radius 는 m 단위, 가까운 순으로 최대 k 개")
+  @GetMapping("/hospitals/nearby")
+  public ResponseEntity<ApiResponse<List<GetNearbyHospitalRespDto>>> getNearbyHospitals(
+      @RequestParam double lat,
+      @RequestParam double lng,
+      @RequestParam(defaultValue = "10") int k,
+      @RequestParam(defaultValue = "5000") double radius
+  ) {
+    return ApiResponse.generateResp(
+        Status.SUCCESS, null, infoFacade.readNearbyHospitals(lat, lng, k, radius));
+  }
+
+  @Operation(summary = "내 주변 동물 보호소 조회", description = "radius 는 m 단위, 가까운 순으로 최대 k 개")
+  @GetMapping("/shelters/nearby")
+  public ResponseEntity<ApiResponse<List<GetNearbyShelterRespDto>>> getNearbyShelters(
+      @RequestParam double lat,
+      @RequestParam double lng,
+      @RequestParam(defaultValue = "10") int k,
+      @RequestParam(defaultValue = "5000") double radius
+  ) {
+    return ApiResponse.generateResp(
+        Status.SUCCESS, null, infoFacade.readNearbyShelters(lat, lng, k, radius));
+  }
+
+  @Operation(summary = "지도 영역 안의 병원/보호소 마커 조회",
+      description = "x = 경도, y = 위도. 확대 수준(zoom)이 낮으면 가까운 마커를 묶어 개수와 중심점으로 반환")
+  @GetMapping("/map")
+  public ResponseEntity<ApiResponse<GetInfoMapRespDto>> getMapMarkers(
+      @RequestParam double minX,
+      @RequestParam double minY,
+      @RequestParam double maxX,
+      @RequestParam double maxY,
+      @RequestParam int zoom,
+      @RequestParam(defaultValue = "all") String type
+  ) {
+    return ApiResponse.generateResp(
+        Status.SUCCESS, null, infoFacade.readMapMarkers(minX, minY, maxX, maxY, zoom, type));
+  }
+
+  @Operation(summary = "지금 열려 있는 동물 보호소 조회",
+      description = "at(yyyy-MM-ddTHH:mm) 이 없으면 현재 시각, type = operation(운영) 또는 adoption(분양), addNum 이 없으면 전체 지역")
+  @GetMapping("/shelters/open")
+  public ResponseEntity<ApiResponse<List<GetOpenShelterRespDto>>> getOpenShelters(
+      @RequestParam(required = false) Integer addNum,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+      @RequestParam(defaultValue = "operation") String type
+  ) {
+    return ApiResponse.generateResp(
+        Status.SUCCESS, null, infoFacade.readOpenShelters(addNum, at, type));
+  }
+
+  @Operation(summary = "병원/보호소 이름 자동완성", description = "이름 중간부터의 일부 입력(\"동물병\"), 초성(\"ㄷㅁ\") 검색 가능")
+  @GetMapping("/search")
+  public ResponseEntity<ApiResponse<List<GetInfoSearchRespDto>>> searchInfo(
+      @RequestParam(required = false) String q,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return ApiResponse.generateResp(Status.SUCCESS, null, infoFacade.searchByName(q, size));
+  }
+
+  @Operation(summary = "동물 병원 다중 조건 조회",
+      description = "type, addNum 은 여러 값 가능(쉼표 구분, OR). 조건끼리는 AND. facets 에 값별 개수 포함")
+  @GetMapping("/hospitals/filter")
+  public ResponseEntity<ApiResponse<GetInfoFilterRespDto<GetHospitalInfoRespDto>>> filterHospitals(
+      @RequestParam(required = false) List<String> type,
+      @RequestParam(required = false) List<String> addNum,
+      @RequestParam(defaultValue = "0") int pageNo,
+      @RequestParam(defaultValue = "10") int pageSize
+  ) {
+    return ApiResponse.generateResp(
+        Status.SUCCESS, null, infoFacade.filterHospitals(type, addNum, pageNo, pageSize));
+  }
+
+  @Operation(summary = "동물 보호소 다중 조건 조회",
+      description = "type, addNum, animal(구조 대상 동물) 은 여러 값 가능(쉼표 구분, OR), vetMin/vetMax 는 수의사 인원 수 범위. facets 에 값별 개수 포함")
+  @GetMapping("/shelters/filter")
+  public ResponseEntity<ApiResponse<GetInfoFilterRespDto<GetShelterInfoRespDto>>> filterShelters(
+      @RequestParam(required = false) List<String> type,
+      @RequestParam(required = false) List<String> addNum,
+      @RequestParam(required = false) List<String> animal,
+      @RequestParam(required = false) Integer vetMin,
+      @RequestParam(required = false) Integer vetMax,
+      @RequestParam(defaultValue = "0") int pageNo,
+      @RequestParam(defaultValue = "10") int pageSize
+  ) {
+    return ApiResponse.generateResp(
+        Status.SUCCESS, null, infoFacade.filterShelters(type, addNum, animal, vetMin, vetMax, pageNo, pageSize));
+  }
+
   @Operation(summary = "지역별 동물 병원 정보 목록 조회")
   @GetMapping("/hospitals/{addNum}")
   public ResponseEntity<ApiResponse<List<GetHospitalInfoRespDto>>> getHospitalInfo(
@@ -42,16 +143,46 @@ public class InfoController {
           Status.SUCCESS, null, infoFacade.readHospitalInfo(pageNo, pageSize, sortBy, direction, addNum).getContent());
   }
 
-  @Operation(summary = "지역별 동물 보호소 정보 목록 조회 (필수정보 조회 기능)")
+  @Operation(summary = "지역별 동물 보호소 정보 목록 조회 (필수정보 조회 기능)",
+      description = "withOperation=true 이면 각 보호소의 운영정보를 함께 반환 ({shelter, operation} 목록)")
   @GetMapping("/shelters/{addNum}")
-  public ResponseEntity<ApiResponse<List<GetShelterInfoRespDto>>> getShelterInfo(
+  public ResponseEntity<ApiResponse<List<?>>> getShelterInfo(
       @RequestParam(defaultValue = "0") int pageNo,
       @RequestParam(defaultValue = "10") int pageSize,
       @RequestParam(defaultValue = "name") String sortBy,
       @RequestParam(defaultValue = "DESC") String direction,
+      @RequestParam(defaultValue = "false") boolean withOperation,
       @PathVariable int addNum
   ) {
+    if (withOperation) {
+      return ApiResponse.generateResp(
+          Status.SUCCESS, null, infoFacade.readShelterInfoWithOperation(pageNo, pageSize, sortBy, direction, addNum));
+    }
     return ApiResponse.generateResp(
         Status.SUCCESS, null, infoFacade.readShelterInfo(pageNo, pageSize, sortBy, direction, addNum).getContent());
   }
+
+  // /shelters/{addNum} 과 경로가 겹치지 않도록 /shelters/detail/{shelterId} 사용
+  @Operation(summary = "동물 보호소 상세 조회 (운영정보 포함)")
+  @GetMapping("/shelters/detail/{shelterId}")
+  public ResponseEntity<ApiResponse<GetShelterDetailRespDto>> getShelterDetail(@PathVariable Long shelterId) {
+    return ApiResponse.generateResp(Status.SUCCESS, null, infoFacade.readShelterDetail(shelterId));
+  }
+
+  @Operation(summary = "병원/보호소 정보 스냅샷 갱신 (관리자)", description = "DB 의 병원/보호소 정보를 다시 읽어 메모리 스냅샷을 교체")
+  @PostMapping("/refresh")
+  public ResponseEntity<ApiResponse<InfoRefreshRespDto>> refreshInfo() {
+    return ApiResponse.generateResp(Status.SUCCESS, "정보 스냅샷이 갱신되었습니다.", infoFacade.refreshSnapshot());
+  }
+
+  @Operation(summary = "병원/보호소 공공데이터 파일 가져오기 (관리자)",
+      description = "target = hospitals, shelters, shelter-operations. file 은 서버의 가져오기 디렉토리(info.import.dir) 기준 경로 (csv, json)")
+  @PostMapping("/import")
+  public ResponseEntity<ApiResponse<InfoImportRespDto>> importInfo(
+      @RequestParam String target,
+      @RequestParam String file,
+      @RequestParam(defaultValue = "UTF-8") String charset
+  ) {
+    return ApiResponse.generateResp(Status.SUCCESS, "정보 가져오기가 완료되었습니다.", infoFacade.importInfo(target, file, charset));
+  }
 }
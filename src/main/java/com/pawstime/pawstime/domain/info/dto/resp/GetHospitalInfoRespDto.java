@@ -1,6 +1,7 @@
 package com.pawstime.pawstime.domain.info.dto.resp;
 
 import com.pawstime.pawstime.domain.info.entity.HospitalInfo;
+import com.pawstime.pawstime.domain.info.service.spatial.Coordinates;
 import lombok.Builder;
 
 @Builder
@@ -25,8 +26,8 @@ public record GetHospitalInfoRespDto(
         .name(info.getName())
         .type(info.getType())
         .addNum(info.getAddNum())
-        .x(Double.parseDouble(info.getX()))
-        .y(Double.parseDouble(info.getY()))
+        .x(Coordinates.parse(info.getX()))
+        .y(Coordinates.parse(info.getY()))
         .build();
   }
 }
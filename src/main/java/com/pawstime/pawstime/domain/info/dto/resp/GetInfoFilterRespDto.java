@@ -0,0 +1,14 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import java.util.List;
+import java.util.Map;
+
+public record GetInfoFilterRespDto<T>(
+    List<T> content,
+    int totalElements,                         // 조건에 맞는 전체 개수
+    int pageNo,
+    int pageSize,
+    Map<String, Map<String, Integer>> facets   // 속성 -> 값 -> 개수 (해당 속성을 제외한 나머지 조건 기준)
+) {
+
+}
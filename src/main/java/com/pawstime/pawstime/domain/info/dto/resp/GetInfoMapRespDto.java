@@ -0,0 +1,14 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record GetInfoMapRespDto(
+    int zoom,
+    boolean clustered,  // 묶음 마커가 포함되어 있는지
+    int total,          // 영역 안의 전체 병원/보호소 수
+    List<GetMapMarkerRespDto> markers
+) {
+
+}
@@ -0,0 +1,33 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import lombok.Builder;
+
+@Builder
+public record GetInfoSearchRespDto(
+    String kind,  // HOSPITAL, SHELTER
+    Long id,      // 병원 id, 보호소 shelterId
+    String name,
+    String add1,
+    Integer addNum
+) {
+
+  public static GetInfoSearchRespDto from(GetHospitalInfoRespDto hospital) {
+    return GetInfoSearchRespDto.builder()
+        .kind("HOSPITAL")
+        .id(hospital.id())
+        .name(hospital.name())
+        .add1(hospital.add1())
+        .addNum(hospital.addNum())
+        .build();
+  }
+
+  public static GetInfoSearchRespDto from(GetShelterInfoRespDto shelter) {
+    return GetInfoSearchRespDto.builder()
+        .kind("SHELTER")
+        .id(shelter.shelterId())
+        .name(shelter.name())
+        .add1(shelter.add1())
+        .addNum(shelter.addNum())
+        .build();
+  }
+}
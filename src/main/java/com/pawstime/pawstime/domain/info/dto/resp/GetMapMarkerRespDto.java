@@ -0,0 +1,15 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import lombok.Builder;
+
+@Builder
+public record GetMapMarkerRespDto(
+    String kind,  // HOSPITAL, SHELTER
+    Long id,      // 개별 마커일 때만 (병원 id, 보호소 shelterId)
+    String name,  // 개별 마커일 때만
+    int count,    // 마커에 묶인 개수 (개별 마커는 1)
+    double x,     // 경도 (묶음 마커는 중심점)
+    double y      // 위도 (묶음 마커는 중심점)
+) {
+
+}
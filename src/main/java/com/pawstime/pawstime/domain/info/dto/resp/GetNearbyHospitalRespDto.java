@@ -0,0 +1,17 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import lombok.Builder;
+
+@Builder
+public record GetNearbyHospitalRespDto(
+    GetHospitalInfoRespDto hospital,
+    long distance  // 기준 위치로부터의 거리 (m)
+) {
+
+  public static GetNearbyHospitalRespDto of(GetHospitalInfoRespDto hospital, double distance) {
+    return GetNearbyHospitalRespDto.builder()
+        .hospital(hospital)
+        .distance(Math.round(distance))
+        .build();
+  }
+}
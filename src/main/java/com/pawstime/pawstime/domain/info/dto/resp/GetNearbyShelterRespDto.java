@@ -0,0 +1,17 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import lombok.Builder;
+
+@Builder
+public record GetNearbyShelterRespDto(
+    GetShelterInfoRespDto shelter,
+    long distance  // 기준 위치로부터의 거리 (m)
+) {
+
+  public static GetNearbyShelterRespDto of(GetShelterInfoRespDto shelter, double distance) {
+    return GetNearbyShelterRespDto.builder()
+        .shelter(shelter)
+        .distance(Math.round(distance))
+        .build();
+  }
+}
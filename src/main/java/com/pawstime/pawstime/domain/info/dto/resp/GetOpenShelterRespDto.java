@@ -0,0 +1,19 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import lombok.Builder;
+
+@Builder
+public record GetOpenShelterRespDto(
+    GetShelterInfoRespDto shelter,
+    String openTime,   // 조회 시각이 포함된 운영(분양) 시작 시각 (HH:mm)
+    String closeTime   // 조회 시각이 포함된 운영(분양) 종료 시각 (HH:mm)
+) {
+
+  public static GetOpenShelterRespDto of(GetShelterInfoRespDto shelter, String openTime, String closeTime) {
+    return GetOpenShelterRespDto.builder()
+        .shelter(shelter)
+        .openTime(openTime)
+        .closeTime(closeTime)
+        .build();
+  }
+}
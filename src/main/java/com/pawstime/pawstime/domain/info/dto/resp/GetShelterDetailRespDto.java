@@ -0,0 +1,17 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import lombok.Builder;
+
+@Builder
+public record GetShelterDetailRespDto(
+    GetShelterInfoRespDto shelter,
+    GetShelterOperationInfoRespDto operation  // 운영정보가 없으면 null
+) {
+
+  public static GetShelterDetailRespDto of(GetShelterInfoRespDto shelter, GetShelterOperationInfoRespDto operation) {
+    return GetShelterDetailRespDto.builder()
+        .shelter(shelter)
+        .operation(operation)
+        .build();
+  }
+}
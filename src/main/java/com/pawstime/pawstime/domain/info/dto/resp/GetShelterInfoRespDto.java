@@ -1,6 +1,7 @@
 package com.pawstime.pawstime.domain.info.dto.resp;
 
 import com.pawstime.pawstime.domain.info.entity.ShelterInfo;
+import com.pawstime.pawstime.domain.info.service.spatial.Coordinates;
 import lombok.Builder;
 
 @Builder
@@ -22,8 +23,8 @@ public record GetShelterInfoRespDto(
         .type(info.getType())
         .add1(info.getAdd1())
         .addNum(info.getAddNum())
-        .x(Double.parseDouble(info.getX()))
-        .y(Double.parseDouble(info.getY()))
+        .x(Coordinates.parse(info.getX()))
+        .y(Coordinates.parse(info.getY()))
         .tel(info.getTel())
         .build();
   }
@@ -0,0 +1,19 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record InfoImportRespDto(
+    String target,            // 대상 테이블
+    String file,
+    int read,                 // 읽은 행 수
+    int upserted,             // 추가 또는 갱신한 행 수
+    int skipped,              // 키가 없거나 잘못되어 건너뛴 행 수
+    int invalidCoordinates,   // 좌표가 잘못되어 좌표만 비운 행 수
+    List<String> errors,      // 값이 잘못되어 건너뛴 행의 줄 번호와 사유 (최대 100건)
+    long elapsedMs,
+    long rowsPerSecond
+) {
+
+}
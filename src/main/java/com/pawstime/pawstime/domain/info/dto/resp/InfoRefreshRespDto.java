@@ -0,0 +1,23 @@
+package com.pawstime.pawstime.domain.info.dto.resp;
+
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshot;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record InfoRefreshRespDto(
+    int hospitalCount,
+    int shelterCount,
+    int shelterOperationCount,
+    LocalDateTime loadedAt
+) {
+
+  public static InfoRefreshRespDto from(InfoSnapshot snapshot) {
+    return InfoRefreshRespDto.builder()
+        .hospitalCount(snapshot.hospitals().size())
+        .shelterCount(snapshot.shelters().size())
+        .shelterOperationCount(snapshot.shelterOperations().size())
+        .loadedAt(snapshot.loadedAt())
+        .build();
+  }
+}
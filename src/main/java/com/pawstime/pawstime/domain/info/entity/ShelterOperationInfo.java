@@ -28,7 +28,7 @@ public class ShelterOperationInfo {
   private Long ShelterOperationId;
 
   @OneToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "shelter_id", nullable = false)
+  @JoinColumn(name = "shelter_id", nullable = false, unique = true)  // 가져오기 시 shelter_id 로 upsert
   private ShelterInfo shelterInfo;
 
   @Column(name = "save_trgt_animal")
@@ -2,6 +2,7 @@ package com.pawstime.pawstime.domain.info.entity.repository;
 
 import com.pawstime.pawstime.domain.info.entity.ShelterInfo;
 import com.pawstime.pawstime.domain.info.entity.ShelterOperationInfo;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,4 +14,8 @@ public interface ShelterInfoRepository extends JpaRepository<ShelterInfo, Long>
 
   @Query("SELECT s FROM ShelterInfo s WHERE s.addNum = :addNum")
   Page<ShelterInfo> findAllQuery(Pageable pageable, int addNum);
+
+  // 보호소와 운영정보를 쿼리 한 번으로 조회 ([ShelterInfo, ShelterOperationInfo 또는 null])
+  @Query("SELECT s, o FROM ShelterInfo s LEFT JOIN ShelterOperationInfo o ON o.shelterInfo = s WHERE s.shelterId = :shelterId")
+  List<Object[]> findWithOperation(@Param("shelterId") Long shelterId);
 }
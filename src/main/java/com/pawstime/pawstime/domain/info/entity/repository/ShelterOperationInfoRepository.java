@@ -0,0 +1,18 @@
+package com.pawstime.pawstime.domain.info.entity.repository;
+
+import com.pawstime.pawstime.domain.info.entity.ShelterOperationInfo;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ShelterOperationInfoRepository extends JpaRepository<ShelterOperationInfo, Long> {
+
+  @Query("SELECT o FROM ShelterOperationInfo o JOIN FETCH o.shelterInfo")
+  List<ShelterOperationInfo> findAllWithShelter();
+
+  // 목록 한 페이지의 운영정보를 쿼리 한 번으로 조회
+  @Query("SELECT o FROM ShelterOperationInfo o JOIN FETCH o.shelterInfo s WHERE s.shelterId IN :shelterIds")
+  List<ShelterOperationInfo> findAllByShelterIds(@Param("shelterIds") Collection<Long> shelterIds);
+}
@@ -1,13 +1,39 @@
 package com.pawstime.pawstime.domain.info.facade;
 
 import com.pawstime.pawstime.domain.info.dto.resp.GetHospitalInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoFilterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoMapRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoSearchRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetNearbyHospitalRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetNearbyShelterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetOpenShelterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterDetailRespDto;
 import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
 import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.InfoImportRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.InfoRefreshRespDto;
 import com.pawstime.pawstime.domain.info.entity.ShelterOperationInfo;
+import com.pawstime.pawstime.domain.info.service.InfoSpatialIndex;
 import com.pawstime.pawstime.domain.info.service.ReadHospitalInfoService;
 import com.pawstime.pawstime.domain.info.service.ReadShelterInfoService;
+import com.pawstime.pawstime.domain.info.service.filter.InfoFilterIndex;
+import com.pawstime.pawstime.domain.info.service.hours.ShelterHoursIndex;
+import com.pawstime.pawstime.domain.info.service.hours.ShelterHoursIndex.HoursType;
+import com.pawstime.pawstime.domain.info.service.importer.InfoImportService;
+import com.pawstime.pawstime.domain.info.service.importer.InfoImportTarget;
+import com.pawstime.pawstime.domain.info.service.search.InfoNameIndex;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshot;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshotHolder;
+import com.pawstime.pawstime.global.exception.InvalidException;
 import com.pawstime.pawstime.global.exception.NotFoundException;
 import java.net.ContentHandler;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -15,28 +41,203 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+// 조회는 메모리의 정보 스냅샷으로 처리 (스냅샷 생성 전에만 DB 조회)
 @Slf4j
-@Transactional
 @Component
 @RequiredArgsConstructor
 public class InfoFacade {
 
     private final ReadHospitalInfoService readHospitalInfoService;
     private final ReadShelterInfoService readShelterInfoService;
+    private final InfoSpatialIndex infoSpatialIndex;
+    private final InfoSnapshotHolder infoSnapshotHolder;
+    private final ShelterHoursIndex shelterHoursIndex;
+    private final InfoImportService infoImportService;
+    private final InfoNameIndex infoNameIndex;
+    private final InfoFilterIndex infoFilterIndex;
+
+    // 주변 검색 시 한 번에 조회할 수 있는 최대 개수, 최대 반경 (m)
+    private static final int MAX_NEARBY_SIZE = 50;
+    private static final double MAX_NEARBY_RADIUS = 50_000;
+    private static final int MAX_MAP_ZOOM = 21;
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_SEARCH_SIZE = 30;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 50;
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
 
     public Page<GetHospitalInfoRespDto> readHospitalInfo(int pageNo, int pageSize, String sortBy, String direcrion, int addNum) {
 
-        Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by(Sort.Direction.fromString(direcrion), sortBy));
+        // 정렬 값이 같으면 ID 순 (스냅샷도 ID 순으로 읽은 행 순서를 두 번째 기준으로 사용)
+        Sort.Direction sortDirection = Sort.Direction.fromString(direcrion);
+        Pageable pageable = PageRequest.of(pageNo, pageSize,
+            Sort.by(sortDirection, sortBy).and(Sort.by(sortDirection, "id")));
 
+        InfoSnapshot snapshot = infoSnapshotHolder.current();
+        if (snapshot != null) {
+            return snapshot.hospitals().page(addNum, pageable);
+        }
         return readHospitalInfoService.readAllHospital(pageable, addNum).map(GetHospitalInfoRespDto::from);
     }
 
   public Page<GetShelterInfoRespDto> readShelterInfo(int pageNo, int pageSize, String sortBy, String direction, int addNum) {
 
-      Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by(Sort.Direction.fromString(direction), sortBy));
+      Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+      Pageable pageable = PageRequest.of(pageNo, pageSize,
+          Sort.by(sortDirection, sortBy).and(Sort.by(sortDirection, "shelterId")));
 
+      InfoSnapshot snapshot = infoSnapshotHolder.current();
+      if (snapshot != null) {
+          return snapshot.shelters().page(addNum, pageable);
+      }
       return readShelterInfoService.readAllShelter(pageable, addNum).map(GetShelterInfoRespDto::from);
   }
-}
\ No newline at end of file
+
+  // 보호소 목록 + 운영정보 (스냅샷이 없을 때도 운영정보는 페이지당 쿼리 한 번으로 조회)
+  public List<GetShelterDetailRespDto> readShelterInfoWithOperation(
+      int pageNo, int pageSize, String sortBy, String direction, int addNum) {
+    List<GetShelterInfoRespDto> shelters = readShelterInfo(pageNo, pageSize, sortBy, direction, addNum).getContent();
+
+    InfoSnapshot snapshot = infoSnapshotHolder.current();
+    Map<Long, GetShelterOperationInfoRespDto> operations = snapshot != null
+        ? snapshot.shelterOperations()
+        : readShelterInfoService.readOperations(shelters.stream().map(GetShelterInfoRespDto::shelterId).toList());
+    return shelters.stream()
+        .map(shelter -> GetShelterDetailRespDto.of(shelter, operations.get(shelter.shelterId())))
+        .toList();
+  }
+
+  public GetShelterDetailRespDto readShelterDetail(Long shelterId) {
+    InfoSnapshot snapshot = infoSnapshotHolder.current();
+    if (snapshot == null) {
+      return readShelterInfoService.readShelterDetail(shelterId);
+    }
+
+    GetShelterInfoRespDto shelter = snapshot.shelterOf(shelterId);
+    if (shelter == null) {
+      throw new NotFoundException("존재하지 않는 보호소입니다.");
+    }
+    return GetShelterDetailRespDto.of(shelter, snapshot.operationOf(shelterId));
+  }
+
+  public List<GetNearbyHospitalRespDto> readNearbyHospitals(double lat, double lng, int k, double radius) {
+    validateNearby(lat, lng, k, radius);
+    return infoSpatialIndex.nearestHospitals(lat, lng, k, radius);
+  }
+
+  public List<GetNearbyShelterRespDto> readNearbyShelters(double lat, double lng, int k, double radius) {
+    validateNearby(lat, lng, k, radius);
+    return infoSpatialIndex.nearestShelters(lat, lng, k, radius);
+  }
+
+  // type : all, hospital, shelter
+  public GetInfoMapRespDto readMapMarkers(double minX, double minY, double maxX, double maxY, int zoom, String type) {
+    if (minX < -180 || maxX > 180 || minY < -90 || maxY > 90 || minX > maxX || minY > maxY) {
+      throw new InvalidException("올바르지 않은 지도 영역입니다.");
+    }
+    if (zoom < 0 || zoom > MAX_MAP_ZOOM) {
+      throw new InvalidException("확대 수준은 0 이상 " + MAX_MAP_ZOOM + " 이하로 입력해주세요.");
+    }
+
+    String kind = type == null ? "all" : type.toLowerCase();
+    if (!kind.equals("all") && !kind.equals("hospital") && !kind.equals("shelter")) {
+      throw new InvalidException("type 은 all, hospital, shelter 중 하나로 입력해주세요.");
+    }
+    return infoSpatialIndex.mapMarkers(minX, minY, maxX, maxY, zoom,
+        !kind.equals("shelter"), !kind.equals("hospital"));
+  }
+
+  // at 이 없으면 현재 시각, type : operation(운영), adoption(분양)
+  public List<GetOpenShelterRespDto> readOpenShelters(Integer addNum, LocalDateTime at, String type) {
+    HoursType hoursType;
+    try {
+      hoursType = HoursType.valueOf(type.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new InvalidException("type 은 operation, adoption 중 하나로 입력해주세요.");
+    }
+    return shelterHoursIndex.openAt(addNum, at != null ? at : LocalDateTime.now(SERVICE_ZONE), hoursType);
+  }
+
+  // 병원/보호소 이름 자동완성
+  public List<GetInfoSearchRespDto> searchByName(String q, int size) {
+    if (size < 1 || size > MAX_SEARCH_SIZE) {
+      throw new InvalidException("조회 개수는 1 이상 " + MAX_SEARCH_SIZE + " 이하로 입력해주세요.");
+    }
+    if (q == null || q.isBlank()) {
+      return List.of();
+    }
+    if (q.length() > MAX_SEARCH_QUERY_LENGTH) {
+      throw new InvalidException("검색어는 " + MAX_SEARCH_QUERY_LENGTH + "자 이하로 입력해주세요.");
+    }
+    return infoNameIndex.search(q, size);
+  }
+
+  // 같은 조건 안의 값은 OR, 조건끼리는 AND
+  public GetInfoFilterRespDto<GetHospitalInfoRespDto> filterHospitals(
+      List<String> types, List<String> addNums, int pageNo, int pageSize) {
+    validateFilterPage(pageNo, pageSize);
+
+    Map<String, List<String>> filters = new LinkedHashMap<>();
+    filters.put(InfoFilterIndex.TYPE, types);
+    filters.put(InfoFilterIndex.ADD_NUM, addNums);
+    return infoFilterIndex.filterHospitals(filters, pageNo, pageSize);
+  }
+
+  public GetInfoFilterRespDto<GetShelterInfoRespDto> filterShelters(List<String> types, List<String> addNums,
+      List<String> animals, Integer vetMin, Integer vetMax, int pageNo, int pageSize) {
+    validateFilterPage(pageNo, pageSize);
+    if (vetMin != null && vetMax != null && vetMin > vetMax) {
+      throw new InvalidException("수의사 인원 수 범위가 올바르지 않습니다.");
+    }
+
+    Map<String, List<String>> filters = new LinkedHashMap<>();
+    filters.put(InfoFilterIndex.TYPE, types);
+    filters.put(InfoFilterIndex.ADD_NUM, addNums);
+    filters.put(InfoFilterIndex.ANIMAL, animals);
+    return infoFilterIndex.filterShelters(filters, vetMin, vetMax, pageNo, pageSize);
+  }
+
+  private void validateFilterPage(int pageNo, int pageSize) {
+    if (pageNo < 0 || pageSize < 1 || pageSize > MAX_FILTER_PAGE_SIZE) {
+      throw new InvalidException("페이지 크기는 1 이상 " + MAX_FILTER_PAGE_SIZE + " 이하로 입력해주세요.");
+    }
+  }
+
+  // 관리자 요청으로 스냅샷 즉시 갱신
+  public InfoRefreshRespDto refreshSnapshot() {
+    return InfoRefreshRespDto.from(infoSnapshotHolder.refresh());
+  }
+
+  // 가져오기 디렉토리의 파일을 DB 에 반영한 뒤 스냅샷 갱신
+  public InfoImportRespDto importInfo(String target, String fileName, String charset) {
+    InfoImportTarget importTarget = InfoImportTarget.from(target);
+    Path file = infoImportService.resolve(fileName);
+    Charset fileCharset;
+    try {
+      fileCharset = Charset.forName(charset);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidException("지원하지 않는 문자 인코딩입니다: " + charset);
+    }
+
+    InfoImportRespDto result = infoImportService.importFile(importTarget, file, fileCharset);
+    try {
+      infoSnapshotHolder.refresh();
+    } catch (Exception e) {
+      // 가져오기는 이미 반영되었으므로 다음 주기 갱신에 맡김
+      log.error("가져오기 후 정보 스냅샷 갱신 실패: {}", e.getMessage(), e);
+    }
+    return result;
+  }
+
+  private void validateNearby(double lat, double lng, int k, double radius) {
+    if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+      throw new InvalidException("올바르지 않은 좌표입니다.");
+    }
+    if (k < 1 || k > MAX_NEARBY_SIZE) {
+      throw new InvalidException("조회 개수는 1 이상 " + MAX_NEARBY_SIZE + " 이하로 입력해주세요.");
+    }
+    if (radius <= 0 || radius > MAX_NEARBY_RADIUS) {
+      throw new InvalidException("검색 반경은 " + (int) MAX_NEARBY_RADIUS + "m 이하로 입력해주세요.");
+    }
+  }
+}
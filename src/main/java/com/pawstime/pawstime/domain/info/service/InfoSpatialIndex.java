@@ -0,0 +1,177 @@
+package com.pawstime.pawstime.domain.info.service;
+
+import com.pawstime.pawstime.domain.info.dto.resp.GetHospitalInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoMapRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetMapMarkerRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetNearbyHospitalRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetNearbyShelterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoRefreshedEvent;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshot;
+import com.pawstime.pawstime.domain.info.service.spatial.GeoKdTree;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 병원/보호소 좌표 공간 인덱스
+// 스냅샷의 좌표(x = 경도, y = 위도)로 KD-tree 를 만들어 두고, "내 주변" 조회는 DB 접근 없이 메모리에서 처리한다.
+// 좌표가 없거나 잘못된 행은 제외한다. 스냅샷이 교체될 때마다 다시 만든다.
+@Slf4j
+@Component
+public class InfoSpatialIndex {
+
+  // 지도 마커 묶음 기준 : 256px 타일 한 변을 CELLS_PER_TILE 칸으로 나눈 격자, POINT_ZOOM 이상이면 개별 마커
+  private static final int CELLS_PER_TILE = 4;
+  private static final int POINT_ZOOM = 16;
+  private static final int MAX_MARKERS = 500;
+
+  private volatile Layer<GetHospitalInfoRespDto> hospitals = Layer.empty();
+  private volatile Layer<GetShelterInfoRespDto> shelters = Layer.empty();
+
+  // 항목 목록과 같은 순서로 만든 KD-tree
+  private record Layer<T>(List<T> items, GeoKdTree tree) {
+
+    static <T> Layer<T> empty() {
+      return new Layer<>(List.of(), new GeoKdTree(new double[0], new double[0]));
+    }
+
+    static <T> Layer<T> of(List<T> items, ToDoubleFunction<T> lng, ToDoubleFunction<T> lat) {
+      double[] lngs = new double[items.size()];
+      double[] lats = new double[items.size()];
+      for (int i = 0; i < items.size(); i++) {
+        lngs[i] = lng.applyAsDouble(items.get(i));
+        lats[i] = lat.applyAsDouble(items.get(i));
+      }
+      return new Layer<>(List.copyOf(items), new GeoKdTree(lngs, lats));
+    }
+  }
+
+  @EventListener
+  public void onRefreshed(InfoRefreshedEvent event) {
+    rebuild(event.snapshot());
+  }
+
+  public void rebuild(InfoSnapshot snapshot) {
+    List<GetHospitalInfoRespDto> hospitalList = located(snapshot.hospitals().rows(),
+        GetHospitalInfoRespDto::x, GetHospitalInfoRespDto::y);
+    List<GetShelterInfoRespDto> shelterList = located(snapshot.shelters().rows(),
+        GetShelterInfoRespDto::x, GetShelterInfoRespDto::y);
+
+    hospitals = Layer.of(hospitalList, GetHospitalInfoRespDto::x, GetHospitalInfoRespDto::y);
+    shelters = Layer.of(shelterList, GetShelterInfoRespDto::x, GetShelterInfoRespDto::y);
+    log.info("좌표 인덱스 생성 완료: 병원 {}건, 보호소 {}건 (좌표 없음: 병원 {}건, 보호소 {}건)",
+        hospitalList.size(), shelterList.size(),
+        snapshot.hospitals().size() - hospitalList.size(), snapshot.shelters().size() - shelterList.size());
+  }
+
+  // (lat, lng) 에서 radiusMeters 이내의 가까운 병원 k 개 (가까운 순)
+  public List<GetNearbyHospitalRespDto> nearestHospitals(double lat, double lng, int k, double radiusMeters) {
+    Layer<GetHospitalInfoRespDto> layer = hospitals;
+    return layer.tree().nearest(lat, lng, k, radiusMeters).stream()
+        .map(neighbor -> GetNearbyHospitalRespDto.of(layer.items().get(neighbor.ordinal()), neighbor.distance()))
+        .toList();
+  }
+
+  // (lat, lng) 에서 radiusMeters 이내의 가까운 보호소 k 개 (가까운 순)
+  public List<GetNearbyShelterRespDto> nearestShelters(double lat, double lng, int k, double radiusMeters) {
+    Layer<GetShelterInfoRespDto> layer = shelters;
+    return layer.tree().nearest(lat, lng, k, radiusMeters).stream()
+        .map(neighbor -> GetNearbyShelterRespDto.of(layer.items().get(neighbor.ordinal()), neighbor.distance()))
+        .toList();
+  }
+
+  // 지도 영역 안의 마커 (확대 수준이 낮으면 격자 칸별로 묶어 개수와 중심점만 반환)
+  // 마커가 MAX_MARKERS 를 넘으면 격자를 두 배씩 키워 응답 크기를 제한한다.
+  public GetInfoMapRespDto mapMarkers(double minX, double minY, double maxX, double maxY, int zoom,
+      boolean withHospitals, boolean withShelters) {
+    Layer<GetHospitalInfoRespDto> hospitalLayer = hospitals;
+    Layer<GetShelterInfoRespDto> shelterLayer = shelters;
+    int[] hospitalHits = withHospitals ? hospitalLayer.tree().range(minX, minY, maxX, maxY) : new int[0];
+    int[] shelterHits = withShelters ? shelterLayer.tree().range(minX, minY, maxX, maxY) : new int[0];
+
+    // 격자 한 칸의 크기 (경위도 단위), 0 이면 묶지 않음
+    double cellSize = zoom >= POINT_ZOOM ? 0 : 360.0 / (1L << zoom) / CELLS_PER_TILE;
+    List<GetMapMarkerRespDto> markers;
+    while (true) {
+      markers = new ArrayList<>();
+      cluster(markers, "HOSPITAL", hospitalLayer, hospitalHits, cellSize,
+          GetHospitalInfoRespDto::id, GetHospitalInfoRespDto::name, GetHospitalInfoRespDto::x, GetHospitalInfoRespDto::y);
+      cluster(markers, "SHELTER", shelterLayer, shelterHits, cellSize,
+          GetShelterInfoRespDto::shelterId, GetShelterInfoRespDto::name, GetShelterInfoRespDto::x, GetShelterInfoRespDto::y);
+      if (markers.size() <= MAX_MARKERS || cellSize >= 360) {
+        break;
+      }
+      cellSize = cellSize == 0 ? 360.0 / (1L << POINT_ZOOM) / CELLS_PER_TILE : cellSize * 2;
+    }
+
+    return GetInfoMapRespDto.builder()
+        .zoom(zoom)
+        .clustered(markers.stream().anyMatch(marker -> marker.count() > 1))
+        .total(hospitalHits.length + shelterHits.length)
+        .markers(markers)
+        .build();
+  }
+
+  private static <T> void cluster(List<GetMapMarkerRespDto> markers, String kind, Layer<T> layer, int[] hits,
+      double cellSize, Function<T, Long> id, Function<T, String> name,
+      ToDoubleFunction<T> lng, ToDoubleFunction<T> lat) {
+    if (cellSize == 0) {
+      for (int hit : hits) {
+        markers.add(point(kind, layer.items().get(hit), id, name, lng, lat));
+      }
+      return;
+    }
+
+    // 격자 칸 -> [개수, 첫 항목, 경도 합, 위도 합]
+    Map<Long, double[]> cells = new HashMap<>();
+    for (int hit : hits) {
+      T item = layer.items().get(hit);
+      double x = lng.applyAsDouble(item);
+      double y = lat.applyAsDouble(item);
+      long cell = ((long) Math.floor((x + 180) / cellSize) << 32) | (long) Math.floor((y + 90) / cellSize);
+      double[] acc = cells.computeIfAbsent(cell, c -> new double[]{0, hit, 0, 0});
+      acc[0]++;
+      acc[2] += x;
+      acc[3] += y;
+    }
+
+    for (double[] acc : cells.values()) {
+      int count = (int) acc[0];
+      if (count == 1) {
+        markers.add(point(kind, layer.items().get((int) acc[1]), id, name, lng, lat));
+      } else {
+        markers.add(GetMapMarkerRespDto.builder()
+            .kind(kind)
+            .count(count)
+            .x(acc[2] / count)
+            .y(acc[3] / count)
+            .build());
+      }
+    }
+  }
+
+  private static <T> GetMapMarkerRespDto point(String kind, T item, Function<T, Long> id, Function<T, String> name,
+      ToDoubleFunction<T> lng, ToDoubleFunction<T> lat) {
+    return GetMapMarkerRespDto.builder()
+        .kind(kind)
+        .id(id.apply(item))
+        .name(name.apply(item))
+        .count(1)
+        .x(lng.applyAsDouble(item))
+        .y(lat.applyAsDouble(item))
+        .build();
+  }
+
+  // 좌표가 있는 행만
+  private static <T> List<T> located(List<T> rows, Function<T, Double> lng, Function<T, Double> lat) {
+    return rows.stream()
+        .filter(row -> lng.apply(row) != null && lat.apply(row) != null)
+        .toList();
+  }
+}
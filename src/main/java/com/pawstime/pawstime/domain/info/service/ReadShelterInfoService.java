@@ -1,8 +1,17 @@
 package com.pawstime.pawstime.domain.info.service;
 
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterDetailRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
 import com.pawstime.pawstime.domain.info.entity.ShelterInfo;
 import com.pawstime.pawstime.domain.info.entity.ShelterOperationInfo;
 import com.pawstime.pawstime.domain.info.entity.repository.ShelterInfoRepository;
+import com.pawstime.pawstime.domain.info.entity.repository.ShelterOperationInfoRepository;
+import com.pawstime.pawstime.global.exception.NotFoundException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,8 +23,32 @@ import org.springframework.stereotype.Service;
 public class ReadShelterInfoService {
 
   private final ShelterInfoRepository infoRepository;
+  private final ShelterOperationInfoRepository operationInfoRepository;
 
   public Page<ShelterInfo> readAllShelter(Pageable pageable, int addNum) {
     return infoRepository.findAllQuery(pageable, addNum);
   }
+
+  public GetShelterDetailRespDto readShelterDetail(Long shelterId) {
+    List<Object[]> rows = infoRepository.findWithOperation(shelterId);
+    if (rows.isEmpty()) {
+      throw new NotFoundException("존재하지 않는 보호소입니다.");
+    }
+    ShelterInfo shelter = (ShelterInfo) rows.get(0)[0];
+    ShelterOperationInfo operation = (ShelterOperationInfo) rows.get(0)[1];
+    return GetShelterDetailRespDto.of(GetShelterInfoRespDto.from(shelter),
+        operation == null ? null : GetShelterOperationInfoRespDto.from(operation));
+  }
+
+  // shelterId -> 운영정보 (운영정보가 없는 보호소는 포함되지 않음)
+  public Map<Long, GetShelterOperationInfoRespDto> readOperations(Collection<Long> shelterIds) {
+    Map<Long, GetShelterOperationInfoRespDto> operations = new HashMap<>();
+    if (shelterIds.isEmpty()) {
+      return operations;
+    }
+    for (ShelterOperationInfo info : operationInfoRepository.findAllByShelterIds(shelterIds)) {
+      operations.put(info.getShelterInfo().getShelterId(), GetShelterOperationInfoRespDto.from(info));
+    }
+    return operations;
+  }
 }
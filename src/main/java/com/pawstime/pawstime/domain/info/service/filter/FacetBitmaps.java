@@ -0,0 +1,135 @@
+package com.pawstime.pawstime.domain.info.service.filter;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+// 속성 값별 행 번호 비트맵 (불변)
+// 속성 -> 값 -> 그 값을 가진 행 번호의 BitSet. 같은 속성 안의 값은 OR, 속성끼리는 AND 로 결합한다.
+public class FacetBitmaps {
+
+  // 값 정렬 : 숫자는 크기 순으로 먼저, 나머지는 문자열 순
+  private static final Comparator<String> VALUE_ORDER = (a, b) -> {
+    boolean aNumber = a.chars().allMatch(Character::isDigit);
+    boolean bNumber = b.chars().allMatch(Character::isDigit);
+    if (aNumber && bNumber) {
+      return a.length() != b.length() ? Integer.compare(a.length(), b.length()) : a.compareTo(b);
+    }
+    return aNumber != bNumber ? (aNumber ? -1 : 1) : a.compareTo(b);
+  };
+
+  private final int size;
+  private final Map<String, Map<String, BitSet>> facets;
+
+  private FacetBitmaps(int size, Map<String, Map<String, BitSet>> facets) {
+    this.size = size;
+    this.facets = facets;
+  }
+
+  public static Builder builder(int size) {
+    return new Builder(size);
+  }
+
+  public static class Builder {
+
+    private final int size;
+    private final Map<String, Map<String, BitSet>> facets = new LinkedHashMap<>();
+
+    private Builder(int size) {
+      this.size = size;
+    }
+
+    // row 번째 행의 attribute 값 (null, 빈 값은 무시)
+    public Builder add(String attribute, int row, Object value) {
+      if (value != null && !value.toString().isBlank()) {
+        facets.computeIfAbsent(attribute, a -> new TreeMap<>(VALUE_ORDER))
+            .computeIfAbsent(value.toString().trim(), v -> new BitSet(size))
+            .set(row);
+      }
+      return this;
+    }
+
+    public FacetBitmaps build() {
+      Map<String, Map<String, BitSet>> built = new LinkedHashMap<>();
+      facets.forEach((attribute, values) -> built.put(attribute, Collections.unmodifiableMap(values)));
+      return new FacetBitmaps(size, Collections.unmodifiableMap(built));
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // 모든 행
+  public BitSet all() {
+    BitSet rows = new BitSet(size);
+    rows.set(0, size);
+    return rows;
+  }
+
+  // attribute 값이 values 중 하나인 행
+  public BitSet anyOf(String attribute, Collection<String> values) {
+    BitSet rows = new BitSet(size);
+    Map<String, BitSet> bitmaps = facets.getOrDefault(attribute, Map.of());
+    for (String value : values) {
+      BitSet bitmap = bitmaps.get(value.trim());
+      if (bitmap != null) {
+        rows.or(bitmap);
+      }
+    }
+    return rows;
+  }
+
+  // attribute 값이 조건을 만족하는 행 (숫자 범위 조회 등)
+  public BitSet matching(String attribute, IntPredicate condition) {
+    BitSet rows = new BitSet(size);
+    facets.getOrDefault(attribute, Map.of()).forEach((value, bitmap) -> {
+      try {
+        if (condition.test(Integer.parseInt(value))) {
+          rows.or(bitmap);
+        }
+      } catch (NumberFormatException ignored) {
+        // 숫자가 아닌 값은 범위 조건에 해당하지 않음
+      }
+    });
+    return rows;
+  }
+
+  // within 에 속한 행의 attribute 값별 개수 (0 인 값은 제외)
+  public Map<String, Integer> counts(String attribute, BitSet within) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    facets.getOrDefault(attribute, Map.of()).forEach((value, bitmap) -> {
+      BitSet intersection = (BitSet) bitmap.clone();
+      intersection.and(within);
+      int count = intersection.cardinality();
+      if (count > 0) {
+        counts.put(value, count);
+      }
+    });
+    return counts;
+  }
+
+  // 속성별 조건(BitSet)들의 AND, excluded 속성의 조건은 제외 (다중 선택 facet 개수 계산용)
+  public BitSet intersect(Map<String, BitSet> conditions, String excluded) {
+    BitSet rows = all();
+    conditions.forEach((attribute, condition) -> {
+      if (excluded == null || !attribute.equals(excluded)) {
+        rows.and(condition);
+      }
+    });
+    return rows;
+  }
+
+  public Map<String, Map<String, Integer>> facetCounts(Map<String, BitSet> conditions) {
+    Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+    for (String attribute : facets.keySet()) {
+      result.put(attribute, counts(attribute, intersect(conditions, attribute)));
+    }
+    return result;
+  }
+}
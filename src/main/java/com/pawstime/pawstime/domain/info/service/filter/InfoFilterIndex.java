@@ -0,0 +1,124 @@
+package com.pawstime.pawstime.domain.info.service.filter;
+
+import com.pawstime.pawstime.domain.info.dto.resp.GetHospitalInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoFilterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoRefreshedEvent;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshot;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 병원/보호소 다중 조건 필터 인덱스 (스냅샷이 교체될 때마다 다시 만듦)
+// 조건은 비트맵 AND/OR 로 결합하고, 속성별 개수(facet)도 비트맵 교집합 크기로 계산한다.
+@Slf4j
+@Component
+public class InfoFilterIndex {
+
+  public static final String TYPE = "type";
+  public static final String ADD_NUM = "addNum";
+  public static final String ANIMAL = "animal";        // 보호소 구조 대상 동물 (saveTrgtAnimal 을 나눈 값)
+  public static final String VET_COUNT = "vetCount";   // 보호소 수의사 인원 수
+
+  private static final String ANIMAL_DELIMITER = "[+,/·\\s]+";
+
+  private volatile Index index = new Index(
+      new Table<>(List.of(), FacetBitmaps.builder(0).build()),
+      new Table<>(List.of(), FacetBitmaps.builder(0).build()));
+
+  private record Table<T>(List<T> rows, FacetBitmaps bitmaps) {
+  }
+
+  private record Index(Table<GetHospitalInfoRespDto> hospitals, Table<GetShelterInfoRespDto> shelters) {
+  }
+
+  @EventListener
+  public void onRefreshed(InfoRefreshedEvent event) {
+    rebuild(event.snapshot());
+  }
+
+  public void rebuild(InfoSnapshot snapshot) {
+    List<GetHospitalInfoRespDto> hospitals = snapshot.hospitals().rows();
+    FacetBitmaps.Builder hospitalBitmaps = FacetBitmaps.builder(hospitals.size());
+    for (int row = 0; row < hospitals.size(); row++) {
+      hospitalBitmaps.add(TYPE, row, hospitals.get(row).type())
+          .add(ADD_NUM, row, hospitals.get(row).addNum());
+    }
+
+    List<GetShelterInfoRespDto> shelters = snapshot.shelters().rows();
+    FacetBitmaps.Builder shelterBitmaps = FacetBitmaps.builder(shelters.size());
+    for (int row = 0; row < shelters.size(); row++) {
+      GetShelterInfoRespDto shelter = shelters.get(row);
+      shelterBitmaps.add(TYPE, row, shelter.type())
+          .add(ADD_NUM, row, shelter.addNum());
+
+      GetShelterOperationInfoRespDto operation = snapshot.operationOf(shelter.shelterId());
+      if (operation != null) {
+        shelterBitmaps.add(VET_COUNT, row, operation.vetPersonCnt());
+        if (operation.saveTrgtAnimal() != null) {
+          for (String animal : operation.saveTrgtAnimal().split(ANIMAL_DELIMITER)) {
+            shelterBitmaps.add(ANIMAL, row, animal);
+          }
+        }
+      }
+    }
+
+    index = new Index(new Table<>(hospitals, hospitalBitmaps.build()), new Table<>(shelters, shelterBitmaps.build()));
+    log.info("필터 인덱스 생성 완료: 병원 {}건, 보호소 {}건", hospitals.size(), shelters.size());
+  }
+
+  // filters : 속성 -> 허용 값 목록 (비어 있으면 조건 없음)
+  public GetInfoFilterRespDto<GetHospitalInfoRespDto> filterHospitals(
+      Map<String, List<String>> filters, int pageNo, int pageSize) {
+    Table<GetHospitalInfoRespDto> table = index.hospitals();
+    return filter(table, conditions(table.bitmaps(), filters), pageNo, pageSize);
+  }
+
+  // vetMin, vetMax : 수의사 인원 수 범위 (null 이면 조건 없음)
+  public GetInfoFilterRespDto<GetShelterInfoRespDto> filterShelters(
+      Map<String, List<String>> filters, Integer vetMin, Integer vetMax, int pageNo, int pageSize) {
+    Table<GetShelterInfoRespDto> table = index.shelters();
+    Map<String, BitSet> conditions = conditions(table.bitmaps(), filters);
+    if (vetMin != null || vetMax != null) {
+      int min = vetMin == null ? Integer.MIN_VALUE : vetMin;
+      int max = vetMax == null ? Integer.MAX_VALUE : vetMax;
+      conditions.put(VET_COUNT, table.bitmaps().matching(VET_COUNT, count -> count >= min && count <= max));
+    }
+    return filter(table, conditions, pageNo, pageSize);
+  }
+
+  private static Map<String, BitSet> conditions(FacetBitmaps bitmaps, Map<String, List<String>> filters) {
+    Map<String, BitSet> conditions = new LinkedHashMap<>();
+    filters.forEach((attribute, values) -> {
+      if (values != null && !values.isEmpty()) {
+        conditions.put(attribute, bitmaps.anyOf(attribute, values));
+      }
+    });
+    return conditions;
+  }
+
+  private static <T> GetInfoFilterRespDto<T> filter(Table<T> table, Map<String, BitSet> conditions,
+      int pageNo, int pageSize) {
+    BitSet matched = table.bitmaps().intersect(conditions, null);
+
+    // pageNo * pageSize 번째 일치 행부터 pageSize 개
+    List<T> content = new ArrayList<>(pageSize);
+    long skip = (long) pageNo * pageSize;
+    for (int row = matched.nextSetBit(0); row >= 0 && content.size() < pageSize; row = matched.nextSetBit(row + 1)) {
+      if (skip > 0) {
+        skip--;
+        continue;
+      }
+      content.add(table.rows().get(row));
+    }
+
+    return new GetInfoFilterRespDto<>(content, matched.cardinality(), pageNo, pageSize,
+        table.bitmaps().facetCounts(conditions));
+  }
+}
@@ -0,0 +1,149 @@
+package com.pawstime.pawstime.domain.info.service.hours;
+
+import java.time.DayOfWeek;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 공공데이터의 운영시간/휴무일 문자열 파싱 (스냅샷 교체 시 한 번만 사용)
+final class OperatingHoursParser {
+
+  static final int UNKNOWN = -1;
+  static final int MINUTES_PER_DAY = 24 * 60;
+
+  private static final String DAY_CHARS = "월화수목금토일";  // DayOfWeek 순서 (월 = 0)
+  private static final int WEEKDAYS = 0b0011111;
+  private static final int WEEKEND = 0b1100000;
+
+  // "둘째 주 월요일", "매월 마지막 주 일요일", "격주 화요일" (매주 쉬는 요일이 아님)
+  private static final Pattern MONTHLY_DAY = Pattern.compile(
+      "(?:매월\\s*)?(?:(?:첫|둘|셋|넷|다섯|\\d+)\\s*(?:번\\s*)?째|마지막)\\s*(?:주\\s*)?[월화수목금토일](?:요일)?"
+          + "|격주\\s*[월화수목금토일](?:요일)?");
+  // "1월 1일", "1월", "15일"
+  private static final Pattern DATE = Pattern.compile("\\d+\\s*월(?:\\s*\\d+\\s*일)?|\\d+\\s*일");
+  private static final Pattern DAY_RANGE = Pattern.compile("([월화수목금토일])\\s*[~\\-∼]\\s*([월화수목금토일])");
+  private static final Pattern SEPARATOR = Pattern.compile("[\\s,./·ㆍ()\\[\\]]+");
+  private static final Pattern DAY_TOKEN = Pattern.compile("([월화수목금토일]{1,7})(?:과|와|및|은|는|마다|만)?");
+
+  private OperatingHoursParser() {
+  }
+
+  // "09:00", "0900", "9:00", "09시", "24:00" -> 자정 기준 분, 읽을 수 없으면 UNKNOWN
+  static int parseMinute(String value) {
+    if (value == null) {
+      return UNKNOWN;
+    }
+    String digits = value.replaceAll("[^0-9]", "");
+    if (digits.isEmpty() || digits.length() > 4) {
+      return UNKNOWN;
+    }
+
+    int hour;
+    int minute;
+    if (value.contains(":")) {
+      String[] parts = value.trim().split(":");
+      hour = parseInt(parts[0]);
+      minute = parts.length > 1 ? parseInt(parts[1]) : 0;
+    } else if (digits.length() <= 2) {
+      hour = Integer.parseInt(digits);
+      minute = 0;
+    } else {
+      hour = Integer.parseInt(digits.substring(0, digits.length() - 2));
+      minute = Integer.parseInt(digits.substring(digits.length() - 2));
+    }
+
+    if (hour < 0 || minute < 0 || minute >= 60 || hour > 24 || (hour == 24 && minute > 0)) {
+      return UNKNOWN;
+    }
+    return hour * 60 + minute;
+  }
+
+  // 시작/종료 문자열 -> [시작 분, 종료 분), 종료가 시작보다 이르면 다음 날로 넘어가는 구간 (종료 분 > 1440)
+  // 둘 중 하나라도 읽을 수 없으면 null
+  static int[] parseInterval(String start, String end) {
+    int from = parseMinute(start);
+    int to = parseMinute(end);
+    if (from == UNKNOWN || to == UNKNOWN || from == to) {
+      return null;
+    }
+    return new int[]{from, to < from ? to + MINUTES_PER_DAY : to};
+  }
+
+  // 휴무일 문자열 -> 매주 쉬는 요일 비트 (월요일 = 1, 일요일 = 1 << 6)
+  // "일요일", "매주 월요일, 공휴일", "토,일", "월~금", "주말" 등
+  // 날짜("1월 1일", "매월 15일"), 매월 특정 주("둘째 주 월요일"), 격주 휴무는 매주 쉬는 요일이 아니므로 제외하고,
+  // 공휴일/명절은 달력 정보가 없어 반영하지 않음
+  static int parseClosedDays(String value) {
+    if (value == null || value.isBlank()) {
+      return 0;
+    }
+    String text = MONTHLY_DAY.matcher(value).replaceAll(" ");
+    text = DATE.matcher(text).replaceAll(" ");
+    text = text
+        .replace("요일", "")
+        .replace("휴무일", " ")
+        .replace("휴관일", " ")
+        .replace("휴장일", " ")
+        .replace("연중무휴", " ")
+        .replace("공휴일", " ")
+        .replace("휴일", " ")
+        .replace("매일", " ")
+        .replace("매월", " ")
+        .replace("매주", " ")
+        .replace("무휴", " ")
+        .replace("휴무", " ")
+        .replace("휴관", " ")
+        .replace("휴장", " ");
+
+    int mask = 0;
+    // "월~금", "토-월" : 시작 요일부터 끝 요일까지 (일요일을 넘어가면 월요일부터 이어서)
+    Matcher range = DAY_RANGE.matcher(text);
+    while (range.find()) {
+      int from = DAY_CHARS.indexOf(range.group(1).charAt(0));
+      int to = DAY_CHARS.indexOf(range.group(2).charAt(0));
+      for (int day = from; ; day = (day + 1) % 7) {
+        mask |= 1 << day;
+        if (day == to) {
+          break;
+        }
+      }
+    }
+    text = DAY_RANGE.matcher(text).replaceAll(" ");
+
+    if (text.contains("평일")) {
+      mask |= WEEKDAYS;
+      text = text.replace("평일", " ");
+    }
+    if (text.contains("주말")) {
+      mask |= WEEKEND;
+      text = text.replace("주말", " ");
+    }
+
+    // 요일 글자로만 이루어진 단어만 요일로 인정 ("토", "토일", "일은" 등). 다른 단어 안의 글자는 무시
+    for (String token : SEPARATOR.split(text)) {
+      Matcher day = DAY_TOKEN.matcher(token);
+      if (day.matches()) {
+        for (char c : day.group(1).toCharArray()) {
+          mask |= 1 << DAY_CHARS.indexOf(c);
+        }
+      }
+    }
+    return mask;
+  }
+
+  static int bitOf(DayOfWeek day) {
+    return 1 << (day.getValue() - 1);
+  }
+
+  static String format(int minute) {
+    int normalized = minute % MINUTES_PER_DAY;
+    if (minute == MINUTES_PER_DAY) {
+      return "24:00";
+    }
+    return String.format("%02d:%02d", normalized / 60, normalized % 60);
+  }
+
+  private static int parseInt(String value) {
+    String digits = value.replaceAll("[^0-9]", "");
+    return digits.isEmpty() ? -1 : Integer.parseInt(digits);
+  }
+}
@@ -0,0 +1,140 @@
+package com.pawstime.pawstime.domain.info.service.hours;
+
+import static com.pawstime.pawstime.domain.info.service.hours.OperatingHoursParser.MINUTES_PER_DAY;
+import static com.pawstime.pawstime.domain.info.service.hours.OperatingHoursParser.UNKNOWN;
+
+import com.pawstime.pawstime.domain.info.dto.resp.GetOpenShelterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoRefreshedEvent;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshot;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 보호소 운영/분양 시간 인덱스
+// 운영정보의 시간 문자열은 스냅샷이 교체될 때 한 번만 "자정 기준 분" 구간과 휴무 요일 비트로 변환해 두고,
+// "지금 열린 보호소" 조회는 배열 비교만으로 처리한다.
+// 주말 시간이 비어 있거나 읽을 수 없으면 주말 운영 여부를 알 수 없는 것으로 보고 주말에는 "열림"으로 표시하지 않는다.
+// (주말에 쉬는 보호소가 주말 시간을 비워 두는 경우가 많아 평일 시간으로 대신하면 닫힌 보호소가 열린 것으로 나옴)
+@Slf4j
+@Component
+public class ShelterHoursIndex {
+
+  // 조회 기준 : 운영 시간(weekOpr*, weekend*), 분양 시간(weekCell*, weekendCell*)
+  public enum HoursType {
+    OPERATION, ADOPTION
+  }
+
+  private volatile Index index = Index.empty();
+
+  @EventListener
+  public void onRefreshed(InfoRefreshedEvent event) {
+    rebuild(event.snapshot());
+  }
+
+  public void rebuild(InfoSnapshot snapshot) {
+    List<GetShelterInfoRespDto> shelters = snapshot.shelters().rows().stream()
+        .filter(shelter -> snapshot.operationOf(shelter.shelterId()) != null)
+        .sorted(Comparator.comparing(GetShelterInfoRespDto::addNum, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(GetShelterInfoRespDto::name, Comparator.nullsLast(Comparator.naturalOrder())))
+        .toList();
+    index = Index.of(shelters, snapshot);
+    log.info("보호소 운영시간 인덱스 생성 완료: {}건", shelters.size());
+  }
+
+  // at 시각에 열려 있는 보호소 (addNum 이 null 이면 전체 지역)
+  public List<GetOpenShelterRespDto> openAt(Integer addNum, LocalDateTime at, HoursType type) {
+    Index current = index;
+    Schedule schedule = type == HoursType.ADOPTION ? current.adoption() : current.operation();
+    DayOfWeek day = at.getDayOfWeek();
+    int minute = at.getHour() * 60 + at.getMinute();
+
+    List<GetOpenShelterRespDto> result = new ArrayList<>();
+    for (int i = 0; i < current.shelters().size(); i++) {
+      if (addNum != null && current.addNums()[i] != addNum) {
+        continue;
+      }
+      // 오늘 구간, 또는 자정을 넘겨 이어지는 어제 구간
+      int[] interval = current.match(schedule, i, day, minute);
+      if (interval == null) {
+        interval = current.match(schedule, i, day.minus(1), minute + MINUTES_PER_DAY);
+      }
+      if (interval != null) {
+        result.add(GetOpenShelterRespDto.of(current.shelters().get(i),
+            OperatingHoursParser.format(interval[0]), OperatingHoursParser.format(interval[1])));
+      }
+    }
+    return result;
+  }
+
+  // 평일/주말 [시작 분, 종료 분) 배열 (UNKNOWN 이면 해당 요일 운영 정보 없음)
+  private record Schedule(int[] weekdayStart, int[] weekdayEnd, int[] weekendStart, int[] weekendEnd) {
+
+    static Schedule of(List<GetShelterOperationInfoRespDto> operations,
+        Function<GetShelterOperationInfoRespDto, int[]> weekday,
+        Function<GetShelterOperationInfoRespDto, int[]> weekend) {
+      int size = operations.size();
+      Schedule schedule = new Schedule(new int[size], new int[size], new int[size], new int[size]);
+      for (int i = 0; i < size; i++) {
+        int[] weekdayInterval = weekday.apply(operations.get(i));
+        int[] weekendInterval = weekend.apply(operations.get(i));
+        schedule.weekdayStart[i] = weekdayInterval == null ? UNKNOWN : weekdayInterval[0];
+        schedule.weekdayEnd[i] = weekdayInterval == null ? UNKNOWN : weekdayInterval[1];
+        schedule.weekendStart[i] = weekendInterval == null ? UNKNOWN : weekendInterval[0];
+        schedule.weekendEnd[i] = weekendInterval == null ? UNKNOWN : weekendInterval[1];
+      }
+      return schedule;
+    }
+  }
+
+  private record Index(List<GetShelterInfoRespDto> shelters, int[] addNums, byte[] closedDays,
+                       Schedule operation, Schedule adoption) {
+
+    static Index empty() {
+      return of(List.of(), null);
+    }
+
+    static Index of(List<GetShelterInfoRespDto> shelters, InfoSnapshot snapshot) {
+      int size = shelters.size();
+      List<GetShelterOperationInfoRespDto> operations = new ArrayList<>(size);
+      int[] addNums = new int[size];
+      byte[] closedDays = new byte[size];
+      for (int i = 0; i < size; i++) {
+        GetShelterInfoRespDto shelter = shelters.get(i);
+        GetShelterOperationInfoRespDto operation = snapshot.operationOf(shelter.shelterId());
+        operations.add(operation);
+        addNums[i] = shelter.addNum() == null ? Integer.MIN_VALUE : shelter.addNum();
+        closedDays[i] = (byte) OperatingHoursParser.parseClosedDays(operation.closeDay());
+      }
+
+      Schedule operation = Schedule.of(operations,
+          o -> OperatingHoursParser.parseInterval(o.weekOprStime(), o.weekOprEtime()),
+          o -> OperatingHoursParser.parseInterval(o.weekendStime(), o.weekendEtime()));
+      Schedule adoption = Schedule.of(operations,
+          o -> OperatingHoursParser.parseInterval(o.weekCellStime(), o.weekCellEtime()),
+          o -> OperatingHoursParser.parseInterval(o.weekendCellStime(), o.weekendCellEtime()));
+      return new Index(List.copyOf(shelters), addNums, closedDays, operation, adoption);
+    }
+
+    // day 요일 구간이 minute 을 포함하면 [시작, 종료], 아니면 null
+    int[] match(Schedule schedule, int i, DayOfWeek day, int minute) {
+      if ((closedDays[i] & OperatingHoursParser.bitOf(day)) != 0) {
+        return null;
+      }
+      boolean weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+      int start = weekend ? schedule.weekendStart()[i] : schedule.weekdayStart()[i];
+      int end = weekend ? schedule.weekendEnd()[i] : schedule.weekdayEnd()[i];
+      if (start == UNKNOWN || minute < start || minute >= end) {
+        return null;
+      }
+      return new int[]{start, end};
+    }
+  }
+}
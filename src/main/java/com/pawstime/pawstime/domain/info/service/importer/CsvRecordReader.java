@@ -0,0 +1,123 @@
+package com.pawstime.pawstime.domain.info.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 첫 행이 헤더인 CSV (RFC 4180 : 큰따옴표로 감싼 값 안의 쉼표, 줄바꿈, "" 허용)
+class CsvRecordReader implements InfoRecordReader {
+
+  private final Reader reader;
+  private final List<String> header;
+  private final StringBuilder field = new StringBuilder();
+  private int pending = -2;  // 미리 읽은 문자 (-2 : 없음)
+  private int line = 1;       // 다음에 읽을 문자의 줄 번호
+  private int previous = -1;  // 직전에 읽은 문자 (\r\n 을 줄바꿈 한 번으로 세기 위함)
+  private int recordLine;
+
+  CsvRecordReader(Reader reader) throws IOException {
+    this.reader = reader;
+    List<String> names = readRow();
+    if (names == null) {
+      throw new IOException("빈 CSV 파일입니다.");
+    }
+    // UTF-8 BOM 제거
+    if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) {
+      names.set(0, names.get(0).substring(1));
+    }
+    this.header = names.stream().map(InfoImportTarget::normalize).toList();
+  }
+
+  @Override
+  public Map<String, String> next() throws IOException {
+    List<String> values;
+    do {
+      recordLine = line;
+      values = readRow();
+      if (values == null) {
+        return null;
+      }
+    } while (values.size() == 1 && values.get(0).isEmpty());  // 빈 줄
+
+    Map<String, String> record = new HashMap<>();
+    for (int i = 0; i < header.size() && i < values.size(); i++) {
+      record.put(header.get(i), values.get(i));
+    }
+    return record;
+  }
+
+  @Override
+  public int line() {
+    return recordLine;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  // 한 행 읽기, 파일 끝이면 null
+  private List<String> readRow() throws IOException {
+    int c = read();
+    if (c == -1) {
+      return null;
+    }
+
+    List<String> values = new ArrayList<>();
+    boolean quoted = false;
+    field.setLength(0);
+    while (true) {
+      if (quoted) {
+        if (c == -1) {
+          throw new IOException("닫히지 않은 큰따옴표가 있습니다.");
+        }
+        if (c == '"') {
+          int next = read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            c = next;
+            continue;
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n' || c == '\r' || c == -1) {
+        if (c == '\r') {
+          int next = read();
+          if (next != '\n') {
+            pending = next;
+          }
+        }
+        values.add(field.toString());
+        return values;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+  }
+
+  private int read() throws IOException {
+    if (pending != -2) {
+      int c = pending;
+      pending = -2;
+      return c;
+    }
+    int c = reader.read();
+    if (c == '\r' || (c == '\n' && previous != '\r')) {
+      line++;
+    }
+    previous = c;
+    return c;
+  }
+}
@@ -0,0 +1,223 @@
+package com.pawstime.pawstime.domain.info.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawstime.pawstime.domain.info.dto.resp.InfoImportRespDto;
+import com.pawstime.pawstime.domain.info.service.importer.InfoImportTarget.Column;
+import com.pawstime.pawstime.global.exception.InvalidException;
+import com.pawstime.pawstime.global.exception.NotFoundException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 공공데이터 병원/보호소 파일(CSV, JSON) 가져오기
+// 파일은 한 행씩 읽고, batch-size 행마다 INSERT ... ON DUPLICATE KEY UPDATE 배치로 반영한다.
+// 전체가 하나의 트랜잭션이므로 중간에 실패하면 테이블은 가져오기 전 상태로 남는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InfoImportService {
+
+  private static final int MAX_ERRORS = 100;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${info.import.dir:import}")
+  private String importDir;
+
+  @Value("${info.import.batch-size:1000}")
+  private int batchSize;
+
+  // 행 처리 결과 집계
+  private static class Stats {
+
+    int read;
+    int upserted;
+    int skipped;
+    int invalidCoordinates;
+    final List<String> errors = new ArrayList<>();
+
+    // 건너뛴 행의 사유 (응답이 너무 커지지 않도록 최대 MAX_ERRORS 건)
+    void reject(String error) {
+      if (errors.size() < MAX_ERRORS) {
+        errors.add(error);
+      }
+    }
+  }
+
+  // 가져오기 디렉토리 안의 파일만 허용
+  public Path resolve(String fileName) {
+    if (fileName == null || fileName.isBlank()) {
+      throw new InvalidException("파일명을 입력해주세요.");
+    }
+    Path base = Paths.get(importDir).toAbsolutePath().normalize();
+    Path file = base.resolve(fileName).normalize();
+    if (!file.startsWith(base)) {
+      throw new InvalidException("가져오기 디렉토리 밖의 파일은 사용할 수 없습니다.");
+    }
+    if (!Files.isRegularFile(file)) {
+      throw new NotFoundException("파일을 찾을 수 없습니다: " + fileName);
+    }
+    return file;
+  }
+
+  @Transactional
+  public InfoImportRespDto importFile(InfoImportTarget target, Path file, Charset charset) {
+    long startedAt = System.nanoTime();
+    Set<Long> shelterIds = target == InfoImportTarget.SHELTER_OPERATIONS ? loadShelterIds() : null;
+
+    Stats stats = new Stats();
+    List<Object[]> chunk = new ArrayList<>(batchSize);
+    try (InfoRecordReader reader = open(file, charset)) {
+      Map<String, String> record;
+      while ((record = reader.next()) != null) {
+        stats.read++;
+        Object[] row = toRow(target, record, reader.line(), shelterIds, stats);
+        if (row == null) {
+          stats.skipped++;
+          continue;
+        }
+        chunk.add(row);
+        if (chunk.size() >= batchSize) {
+          flush(target, chunk, stats);
+        }
+      }
+      flush(target, chunk, stats);
+    } catch (IOException e) {
+      throw new InvalidException("파일을 읽을 수 없습니다: " + e.getMessage());
+    }
+
+    long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+    InfoImportRespDto result = InfoImportRespDto.builder()
+        .target(target.table())
+        .file(file.getFileName().toString())
+        .read(stats.read)
+        .upserted(stats.upserted)
+        .skipped(stats.skipped)
+        .invalidCoordinates(stats.invalidCoordinates)
+        .errors(List.copyOf(stats.errors))
+        .elapsedMs(elapsedMs)
+        .rowsPerSecond(elapsedMs == 0 ? stats.upserted : stats.upserted * 1000L / elapsedMs)
+        .build();
+    log.info("정보 가져오기 완료: {}", result);
+    return result;
+  }
+
+  private InfoRecordReader open(Path file, Charset charset) throws IOException {
+    String name = file.getFileName().toString().toLowerCase();
+    if (name.endsWith(".csv")) {
+      return new CsvRecordReader(Files.newBufferedReader(file, charset));
+    }
+    if (name.endsWith(".json")) {
+      return new JsonRecordReader(objectMapper, Files.newBufferedReader(file, charset));
+    }
+    throw new InvalidException("csv, json 파일만 가져올 수 있습니다.");
+  }
+
+  private void flush(InfoImportTarget target, List<Object[]> chunk, Stats stats) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(target.upsertSql(), chunk);
+    stats.upserted += chunk.size();
+    chunk.clear();
+  }
+
+  // 파일의 한 행 -> upsert 파라미터 (키가 없거나 잘못된 행, 없는 보호소의 운영정보는 null)
+  // line : 행이 시작하는 파일의 줄 번호 (건너뛴 사유에 표시)
+  private Object[] toRow(InfoImportTarget target, Map<String, String> record, int line, Set<Long> shelterIds,
+      Stats stats) {
+    List<Column> columns = target.columns();
+    Object[] row = new Object[columns.size()];
+    boolean invalidCoordinate = false;
+
+    for (int i = 0; i < columns.size(); i++) {
+      Column column = columns.get(i);
+      String value = record.get(column.normalizedName());
+      value = value == null || value.isBlank() ? null : value.trim();
+
+      switch (column.type()) {
+        case KEY -> {
+          Long key = parseLong(value);
+          if (key == null || (shelterIds != null && !shelterIds.contains(key))) {
+            return null;
+          }
+          row[i] = key;
+        }
+        case TEXT -> row[i] = value;
+        case NUMBER -> {
+          if (value == null) {
+            row[i] = column.nullable() ? null : 0;
+            break;
+          }
+          // INT 컬럼이므로 정수가 아니거나 int 범위를 벗어나면 잘라서 넣지 않고 행을 건너뜀
+          Integer number = parseInt(value);
+          if (number == null) {
+            stats.reject(line + "행: " + column.name() + " 값이 int 범위의 정수가 아닙니다 (" + value + ")");
+            return null;
+          }
+          row[i] = number;
+        }
+        case COORDINATE -> {
+          if (value != null && !isCoordinate(value, column)) {
+            invalidCoordinate = true;
+            value = null;
+          }
+          row[i] = value;
+        }
+      }
+    }
+
+    if (invalidCoordinate) {
+      stats.invalidCoordinates++;  // 좌표만 비우고 나머지 정보는 반영
+    }
+    return row;
+  }
+
+  private static boolean isCoordinate(String value, Column column) {
+    try {
+      double parsed = Double.parseDouble(value);
+      return Double.isFinite(parsed) && parsed >= column.min() && parsed <= column.max() && parsed != 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private static Long parseLong(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value.replace(",", ""));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  // "1,234", "12.0" 처럼 정수로 정확히 나타낼 수 있는 값만 허용 (소수, int 범위 밖이면 null)
+  private static Integer parseInt(String value) {
+    try {
+      return new BigDecimal(value.replace(",", "")).intValueExact();
+    } catch (NumberFormatException | ArithmeticException e) {
+      return null;
+    }
+  }
+
+  private Set<Long> loadShelterIds() {
+    return new HashSet<>(jdbcTemplate.queryForList("SELECT shelter_id FROM shelters", Long.class));
+  }
+}
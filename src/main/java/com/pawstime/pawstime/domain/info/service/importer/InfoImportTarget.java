@@ -0,0 +1,114 @@
+package com.pawstime.pawstime.domain.info.service.importer;
+
+import com.pawstime.pawstime.global.exception.InvalidException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 가져오기 대상 테이블과 컬럼 정의
+// 파일의 컬럼명은 DB 컬럼명(add_num) 또는 필드명(addNum) 모두 허용 (대소문자, '_' 무시)
+public enum InfoImportTarget {
+
+  HOSPITALS("hospitals", List.of(
+      Column.key("id"),
+      Column.text("tel"), Column.text("add1"), Column.text("add2"), Column.text("name"), Column.text("type"),
+      Column.number("add_num", true),
+      Column.coordinate("x", -180, 180), Column.coordinate("y", -90, 90))),
+
+  SHELTERS("shelters", List.of(
+      Column.key("shelter_id"),
+      Column.text("name"), Column.text("type"), Column.text("add1"),
+      Column.number("add_num", false),
+      Column.text("tel"),
+      Column.coordinate("x", -180, 180), Column.coordinate("y", -90, 90))),
+
+  // shelter_id 에 unique 제약이 있어야 같은 보호소의 운영정보가 갱신됨
+  SHELTER_OPERATIONS("shelters_operation", List.of(
+      Column.key("shelter_id"),
+      Column.text("save_trgt_animal"), Column.text("add2"),
+      Column.text("week_opr_stime"), Column.text("week_opr_etime"), Column.text("close_day"),
+      Column.number("vet_person_cnt", false), Column.number("specs_person_cnt", false),
+      Column.text("week_cell_stime"), Column.text("week_cell_etime"),
+      Column.number("medical_cnt", false), Column.number("breed_cnt", false), Column.number("quarantine_cnt", false),
+      Column.number("feed_cnt", false), Column.number("trans_car_cnt", false),
+      Column.text("weekend_stime"), Column.text("weekend_etime"),
+      Column.text("weekend_cell_stime"), Column.text("weekend_cell_etime")));
+
+  public enum ColumnType {
+    KEY, TEXT, NUMBER, COORDINATE
+  }
+
+  // nullable : NUMBER 컬럼이 비어 있을 때 null 로 저장할지 (false 면 0)
+  public record Column(String name, ColumnType type, boolean nullable, double min, double max) {
+
+    static Column key(String name) {
+      return new Column(name, ColumnType.KEY, false, 0, 0);
+    }
+
+    static Column text(String name) {
+      return new Column(name, ColumnType.TEXT, true, 0, 0);
+    }
+
+    static Column number(String name, boolean nullable) {
+      return new Column(name, ColumnType.NUMBER, nullable, 0, 0);
+    }
+
+    static Column coordinate(String name, double min, double max) {
+      return new Column(name, ColumnType.COORDINATE, true, min, max);
+    }
+
+    // 파일 컬럼명과 비교할 때 사용하는 이름
+    public String normalizedName() {
+      return normalize(name);
+    }
+  }
+
+  private final String table;
+  private final List<Column> columns;
+  private final String upsertSql;
+
+  InfoImportTarget(String table, List<Column> columns) {
+    this.table = table;
+    this.columns = columns;
+    this.upsertSql = buildUpsertSql(table, columns);
+  }
+
+  public String table() {
+    return table;
+  }
+
+  public List<Column> columns() {
+    return columns;
+  }
+
+  public Column keyColumn() {
+    return columns.get(0);
+  }
+
+  // INSERT ... ON DUPLICATE KEY UPDATE (키 컬럼을 제외한 모든 컬럼을 파일 값으로 갱신)
+  public String upsertSql() {
+    return upsertSql;
+  }
+
+  // hospitals, shelters, shelter-operations (대소문자, '-', '_' 무시)
+  public static InfoImportTarget from(String value) {
+    String normalized = value == null ? "" : value.replace("-", "_").toUpperCase();
+    return Arrays.stream(values())
+        .filter(target -> target.name().equals(normalized))
+        .findFirst()
+        .orElseThrow(() -> new InvalidException("target 은 hospitals, shelters, shelter-operations 중 하나로 입력해주세요."));
+  }
+
+  static String normalize(String columnName) {
+    return columnName == null ? "" : columnName.replace("_", "").trim().toLowerCase();
+  }
+
+  private static String buildUpsertSql(String table, List<Column> columns) {
+    String names = columns.stream().map(Column::name).collect(Collectors.joining(", "));
+    String params = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+    String updates = columns.stream().skip(1)
+        .map(column -> column.name() + " = VALUES(" + column.name() + ")")
+        .collect(Collectors.joining(", "));
+    return "INSERT INTO " + table + " (" + names + ") VALUES (" + params + ") ON DUPLICATE KEY UPDATE " + updates;
+  }
+}
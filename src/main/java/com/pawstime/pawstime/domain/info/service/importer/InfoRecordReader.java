@@ -0,0 +1,18 @@
+package com.pawstime.pawstime.domain.info.service.importer;
+
+import java.io.IOException;
+import java.util.Map;
+
+// 파일에서 한 행씩 읽는 reader (전체를 메모리에 올리지 않음)
+// 반환하는 맵의 key 는 InfoImportTarget.normalize 를 거친 컬럼명
+interface InfoRecordReader extends AutoCloseable {
+
+  // 다음 행, 더 없으면 null
+  Map<String, String> next() throws IOException;
+
+  // 마지막으로 반환한 행이 시작하는 파일의 줄 번호 (1부터, 오류 메시지용)
+  int line();
+
+  @Override
+  void close() throws IOException;
+}
@@ -0,0 +1,79 @@
+package com.pawstime.pawstime.domain.info.service.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// 객체 배열 JSON. 최상위가 배열이 아니면 처음 나오는 배열을 사용
+// (공공데이터 응답처럼 {"response": {"body": {"items": {"item": [...]}}}} 형태도 그대로 읽음)
+// 배열 원소를 하나씩 읽으므로 파일 크기와 관계없이 한 행 분량의 메모리만 사용
+class JsonRecordReader implements InfoRecordReader {
+
+  private final ObjectMapper objectMapper;
+  private final JsonParser parser;
+  private boolean inArray;
+  private int recordLine;
+
+  JsonRecordReader(ObjectMapper objectMapper, Reader reader) throws IOException {
+    this.objectMapper = objectMapper;
+    this.parser = objectMapper.getFactory().createParser(reader);
+
+    JsonToken token;
+    while ((token = parser.nextToken()) != null) {
+      if (token == JsonToken.START_ARRAY) {
+        inArray = true;
+        break;
+      }
+    }
+  }
+
+  @Override
+  public Map<String, String> next() throws IOException {
+    if (!inArray) {
+      return null;
+    }
+
+    JsonToken token = parser.nextToken();
+    while (token != null && token != JsonToken.START_OBJECT) {
+      if (token == JsonToken.END_ARRAY) {
+        inArray = false;
+        return null;
+      }
+      parser.skipChildren();  // 객체가 아닌 원소는 무시
+      token = parser.nextToken();
+    }
+    if (token == null) {
+      inArray = false;
+      return null;
+    }
+
+    recordLine = parser.currentTokenLocation().getLineNr();
+    JsonNode node = objectMapper.readTree(parser);
+    Map<String, String> record = new HashMap<>();
+    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> entry = fields.next();
+      JsonNode value = entry.getValue();
+      if (!value.isNull() && value.isValueNode()) {
+        record.put(InfoImportTarget.normalize(entry.getKey()), value.asText());
+      }
+    }
+    return record;
+  }
+
+  @Override
+  public int line() {
+    return recordLine;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+}
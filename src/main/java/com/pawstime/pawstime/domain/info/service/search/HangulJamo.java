@@ -0,0 +1,94 @@
+package com.pawstime.pawstime.domain.info.service.search;
+
+import java.util.Map;
+
+// 한글 음절을 키보드 입력 순서의 자모(호환 자모)로 분해
+// "병원" -> "ㅂㅕㅇㅇㅝ" 가 아니라 겹모음/겹받침까지 나눠 "ㅂㅕㅇㅇㅜㅓㄴ" 으로 만들어
+// 입력 중인 글자("벼", "병ㅇ")도 앞부분 일치로 찾을 수 있게 한다.
+final class HangulJamo {
+
+  private static final char SYLLABLE_BEGIN = 0xAC00;
+  private static final char SYLLABLE_END = 0xD7A3;
+
+  private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  private static final String[] JUNGSEONG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+      "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+  private static final String[] JONGSEONG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+      "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 단독으로 입력된 겹자모
+  private static final Map<Character, String> COMPOUND = Map.ofEntries(
+      Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+      Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+      Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+      Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+      Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+  private HangulJamo() {
+  }
+
+  static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+  }
+
+  // 호환 자모 자음 (ㄱ ~ ㅎ)
+  static boolean isConsonant(char c) {
+    return c >= 'ㄱ' && c <= 'ㅎ';
+  }
+
+  // 자모 분해 (공백 제거, 영문은 소문자)
+  static String decompose(CharSequence text) {
+    StringBuilder result = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      appendJamo(result, text.charAt(i));
+    }
+    return result.toString();
+  }
+
+  static void appendJamo(StringBuilder result, char c) {
+    if (isSyllable(c)) {
+      int index = c - SYLLABLE_BEGIN;
+      result.append(CHOSEONG.charAt(index / 588))
+          .append(JUNGSEONG[(index % 588) / 28])
+          .append(JONGSEONG[index % 28]);
+    } else if (COMPOUND.containsKey(c)) {
+      result.append(COMPOUND.get(c));
+    } else if (!Character.isWhitespace(c)) {
+      result.append(Character.toLowerCase(c));
+    }
+  }
+
+  // 초성만 추출 ("동물병원" -> "ㄷㅁㅂㅇ"), 한글이 아닌 문자는 그대로 (공백 제거, 영문은 소문자)
+  static String choseong(CharSequence text) {
+    StringBuilder result = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isSyllable(c)) {
+        result.append(CHOSEONG.charAt((c - SYLLABLE_BEGIN) / 588));
+      } else if (!Character.isWhitespace(c)) {
+        result.append(Character.toLowerCase(c));
+      }
+    }
+    return result.toString();
+  }
+
+  // 자음만으로 이루어진 입력 ("ㄷㅁ") 이면 초성 검색
+  static boolean isChoseongQuery(String query) {
+    boolean consonant = false;
+    for (int i = 0; i < query.length(); i++) {
+      char c = query.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (!isConsonant(c) || COMPOUND.containsKey(c)) {
+        return false;
+      }
+      consonant = true;
+    }
+    return consonant;
+  }
+}
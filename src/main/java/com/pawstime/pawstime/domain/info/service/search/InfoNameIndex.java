@@ -0,0 +1,48 @@
+package com.pawstime.pawstime.domain.info.service.search;
+
+import com.pawstime.pawstime.domain.info.dto.resp.GetInfoSearchRespDto;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoRefreshedEvent;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshot;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 병원/보호소 이름 자동완성 인덱스 (스냅샷이 교체될 때마다 다시 만듦)
+@Slf4j
+@Component
+public class InfoNameIndex {
+
+  private volatile Index index = new Index(List.of(), new JamoSuffixIndex(List.of()));
+
+  private record Index(List<GetInfoSearchRespDto> entries, JamoSuffixIndex names) {
+  }
+
+  @EventListener
+  public void onRefreshed(InfoRefreshedEvent event) {
+    rebuild(event.snapshot());
+  }
+
+  public void rebuild(InfoSnapshot snapshot) {
+    List<GetInfoSearchRespDto> entries = new ArrayList<>(snapshot.hospitals().size() + snapshot.shelters().size());
+    snapshot.hospitals().rows().forEach(hospital -> entries.add(GetInfoSearchRespDto.from(hospital)));
+    snapshot.shelters().rows().forEach(shelter -> entries.add(GetInfoSearchRespDto.from(shelter)));
+    entries.removeIf(entry -> entry.name() == null || entry.name().isBlank());
+    entries.sort(Comparator.comparing(GetInfoSearchRespDto::name));
+
+    index = new Index(List.copyOf(entries),
+        new JamoSuffixIndex(entries.stream().map(GetInfoSearchRespDto::name).toList()));
+    log.info("이름 검색 인덱스 생성 완료: {}건", entries.size());
+  }
+
+  // 이름에 query 가 포함된 병원/보호소 (자모 단위 일치, 자음만 입력하면 초성 일치)
+  public List<GetInfoSearchRespDto> search(String query, int limit) {
+    Index current = index;
+    return Arrays.stream(current.names().search(query, limit))
+        .mapToObj(current.entries()::get)
+        .toList();
+  }
+}
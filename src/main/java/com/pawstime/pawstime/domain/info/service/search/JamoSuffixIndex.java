@@ -0,0 +1,141 @@
+package com.pawstime.pawstime.domain.info.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 이름 자모 문자열의 접미사를 정렬해 둔 배열 (불변)
+// 이름의 각 글자에서 시작하는 접미사를 모두 넣어 두므로 "동물병" 처럼 이름 중간부터 입력해도
+// 이진 탐색 두 번으로 일치 구간을 찾는다. 자음만 입력한 경우("ㄷㅁ")는 초성 접미사 배열에서 찾는다.
+final class JamoSuffixIndex {
+
+  private final int[] nameLengths;
+  private final Suffixes jamo;
+  private final Suffixes choseong;
+
+  // 정렬된 접미사와 그 접미사가 나온 항목 번호, 이름 안에서의 시작 위치
+  private record Suffixes(String[] keys, int[] entries, int[] starts) {
+
+    int lowerBound(String key) {
+      int lo = 0;
+      int hi = keys.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (keys[mid].compareTo(key) < 0) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+
+    // from(= lowerBound) 부터 key 로 시작하는 접미사는 연속해 있으므로, key 로 시작하지 않는 첫 위치를 이진 탐색
+    int upperBound(String key, int from) {
+      int lo = from;
+      int hi = keys.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (keys[mid].startsWith(key)) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+  }
+
+  private record Suffix(String key, int entry, int start) {
+  }
+
+  // names 의 순서가 항목 번호 (같은 점수면 번호가 작은 항목 우선)
+  JamoSuffixIndex(List<String> names) {
+    this.nameLengths = new int[names.size()];
+    List<Suffix> jamoSuffixes = new ArrayList<>();
+    List<Suffix> choseongSuffixes = new ArrayList<>();
+
+    for (int entry = 0; entry < names.size(); entry++) {
+      String name = names.get(entry) == null ? "" : names.get(entry).replaceAll("\\s+", "");
+      nameLengths[entry] = name.length();
+
+      String fullJamo = HangulJamo.decompose(name);
+      String fullChoseong = HangulJamo.choseong(name);
+      int jamoOffset = 0;
+      for (int start = 0; start < name.length(); start++) {
+        jamoSuffixes.add(new Suffix(fullJamo.substring(jamoOffset), entry, start));
+        choseongSuffixes.add(new Suffix(fullChoseong.substring(start), entry, start));
+
+        StringBuilder syllable = new StringBuilder(3);
+        HangulJamo.appendJamo(syllable, name.charAt(start));
+        jamoOffset += syllable.length();
+      }
+    }
+
+    this.jamo = sort(jamoSuffixes);
+    this.choseong = sort(choseongSuffixes);
+  }
+
+  // 일치하는 항목 번호를 순위 순으로 최대 limit 개
+  // 순위 : 이름 처음부터 일치 > 중간부터 일치, 그다음 짧은 이름, 그다음 항목 번호
+  int[] search(String query, int limit) {
+    boolean choseongQuery = HangulJamo.isChoseongQuery(query);
+    String key = choseongQuery ? HangulJamo.choseong(query) : HangulJamo.decompose(query);
+    if (key.isEmpty() || limit <= 0) {
+      return new int[0];
+    }
+
+    Suffixes suffixes = choseongQuery ? choseong : jamo;
+    int from = suffixes.lowerBound(key);
+    int to = suffixes.upperBound(key, from);
+
+    // 점수 = (중간 일치 여부, 이름 길이, 항목 번호) 를 하나의 long 으로 묶어 작을수록 앞 순위
+    // 일치 구간 전체를 정렬하지 않고, 점수가 가장 큰 항목이 맨 위인 크기 limit 의 힙에 상위 limit 개만 유지
+    // 한 항목이 여러 접미사로 일치하면 점수가 가장 작은 것만 힙에 둔다 (inHeap : 항목 번호 -> 힙에 있는 점수)
+    PriorityQueue<Long> heap = new PriorityQueue<>(Math.min(limit, to - from) + 1, Comparator.reverseOrder());
+    Map<Integer, Long> inHeap = new HashMap<>();
+    for (int i = from; i < to; i++) {
+      int entry = suffixes.entries()[i];
+      long middle = suffixes.starts()[i] == 0 ? 0 : 1;
+      long score = (middle << 62) | ((long) Math.min(nameLengths[entry], 0xFFFF) << 32) | entry;
+
+      Long current = inHeap.get(entry);
+      if (current != null) {
+        if (score < current) {
+          heap.remove(current);
+          heap.add(score);
+          inHeap.put(entry, score);
+        }
+      } else if (heap.size() < limit) {
+        heap.add(score);
+        inHeap.put(entry, score);
+      } else if (score < heap.peek()) {
+        inHeap.remove((int) (long) heap.poll());
+        heap.add(score);
+        inHeap.put(entry, score);
+      }
+    }
+
+    int[] result = new int[heap.size()];
+    for (int i = result.length - 1; i >= 0; i--) {
+      result[i] = (int) (long) heap.poll();
+    }
+    return result;
+  }
+
+  private static Suffixes sort(List<Suffix> suffixes) {
+    suffixes.sort(Comparator.comparing(Suffix::key));
+    String[] keys = new String[suffixes.size()];
+    int[] entries = new int[suffixes.size()];
+    int[] starts = new int[suffixes.size()];
+    for (int i = 0; i < suffixes.size(); i++) {
+      keys[i] = suffixes.get(i).key();
+      entries[i] = suffixes.get(i).entry();
+      starts[i] = suffixes.get(i).start();
+    }
+    return new Suffixes(keys, entries, starts);
+  }
+}
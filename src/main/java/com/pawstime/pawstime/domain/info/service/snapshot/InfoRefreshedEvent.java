@@ -0,0 +1,6 @@
+package com.pawstime.pawstime.domain.info.service.snapshot;
+
+// 새 정보 스냅샷으로 교체된 뒤 발행 (공간 인덱스 등 스냅샷에서 파생되는 데이터 재생성용)
+public record InfoRefreshedEvent(InfoSnapshot snapshot) {
+
+}
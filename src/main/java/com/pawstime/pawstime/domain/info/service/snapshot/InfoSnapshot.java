@@ -0,0 +1,25 @@
+package com.pawstime.pawstime.domain.info.service.snapshot;
+
+import com.pawstime.pawstime.domain.info.dto.resp.GetHospitalInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 한 시점의 병원/보호소/보호소 운영정보 전체 (불변, 갱신 시 통째로 교체)
+public record InfoSnapshot(
+    InfoTable<GetHospitalInfoRespDto> hospitals,
+    InfoTable<GetShelterInfoRespDto> shelters,
+    Map<Long, GetShelterInfoRespDto> sheltersById,
+    Map<Long, GetShelterOperationInfoRespDto> shelterOperations,  // shelterId -> 운영정보
+    LocalDateTime loadedAt
+) {
+
+  public GetShelterInfoRespDto shelterOf(Long shelterId) {
+    return sheltersById.get(shelterId);
+  }
+
+  public GetShelterOperationInfoRespDto operationOf(Long shelterId) {
+    return shelterOperations.get(shelterId);
+  }
+}
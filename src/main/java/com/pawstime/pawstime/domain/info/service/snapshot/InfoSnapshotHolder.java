@@ -0,0 +1,61 @@
+package com.pawstime.pawstime.domain.info.service.snapshot;
+
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 현재 정보 스냅샷 보관
+// 병원/보호소 데이터는 거의 바뀌지 않는 기준 데이터이므로, 조회는 항상 메모리의 스냅샷으로 처리하고
+// 주기적으로(또는 관리자 요청 시) 새 스냅샷을 만들어 한 번에 교체한다. 교체 전까지는 기존 스냅샷으로 응답한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InfoSnapshotHolder {
+
+  private final InfoSnapshotLoader infoSnapshotLoader;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final AtomicReference<InfoSnapshot> current = new AtomicReference<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      log.error("정보 스냅샷 생성 실패, DB 조회로 동작: {}", e.getMessage(), e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${info.snapshot.refresh-interval-ms:3600000}",
+      initialDelayString = "${info.snapshot.refresh-interval-ms:3600000}")
+  public void scheduledRefresh() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      log.error("정보 스냅샷 갱신 실패, 기존 스냅샷 유지: {}", e.getMessage(), e);
+    }
+  }
+
+  // 새 스냅샷을 만들어 교체 (동시에 여러 번 만들지 않도록 동기화)
+  public synchronized InfoSnapshot refresh() {
+    long startedAt = System.currentTimeMillis();
+    InfoSnapshot snapshot = infoSnapshotLoader.load();
+    current.set(snapshot);
+    log.info("정보 스냅샷 교체: 병원 {}건, 보호소 {}건, 운영정보 {}건 ({}ms)",
+        snapshot.hospitals().size(), snapshot.shelters().size(), snapshot.shelterOperations().size(),
+        System.currentTimeMillis() - startedAt);
+
+    eventPublisher.publishEvent(new InfoRefreshedEvent(snapshot));
+    return snapshot;
+  }
+
+  // 현재 스냅샷 (아직 만들어지지 않았으면 null)
+  public InfoSnapshot current() {
+    return current.get();
+  }
+}
@@ -0,0 +1,74 @@
+package com.pawstime.pawstime.domain.info.service.snapshot;
+
+import com.pawstime.pawstime.domain.info.dto.resp.GetHospitalInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
+import com.pawstime.pawstime.domain.info.entity.ShelterOperationInfo;
+import com.pawstime.pawstime.domain.info.entity.repository.HospitalInfoRepository;
+import com.pawstime.pawstime.domain.info.entity.repository.ShelterInfoRepository;
+import com.pawstime.pawstime.domain.info.entity.repository.ShelterOperationInfoRepository;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 병원/보호소 테이블 전체를 읽어 새 스냅샷 생성
+@Service
+@RequiredArgsConstructor
+public class InfoSnapshotLoader {
+
+  private final HospitalInfoRepository hospitalInfoRepository;
+  private final ShelterInfoRepository shelterInfoRepository;
+  private final ShelterOperationInfoRepository shelterOperationInfoRepository;
+
+  @Transactional(readOnly = true)
+  public InfoSnapshot load() {
+    InfoTable<GetHospitalInfoRespDto> hospitals = new InfoTable<>(
+        hospitalInfoRepository.findAll(Sort.by("id")).stream().map(GetHospitalInfoRespDto::from).toList(),
+        GetHospitalInfoRespDto::addNum,
+        hospitalSortKeys());
+
+    InfoTable<GetShelterInfoRespDto> shelters = new InfoTable<>(
+        shelterInfoRepository.findAll(Sort.by("shelterId")).stream().map(GetShelterInfoRespDto::from).toList(),
+        GetShelterInfoRespDto::addNum,
+        shelterSortKeys());
+
+    Map<Long, GetShelterInfoRespDto> sheltersById = new HashMap<>();
+    shelters.rows().forEach(shelter -> sheltersById.put(shelter.shelterId(), shelter));
+
+    Map<Long, GetShelterOperationInfoRespDto> operations = new HashMap<>();
+    for (ShelterOperationInfo info : shelterOperationInfoRepository.findAllWithShelter()) {
+      operations.put(info.getShelterInfo().getShelterId(), GetShelterOperationInfoRespDto.from(info));
+    }
+
+    return new InfoSnapshot(hospitals, shelters, Map.copyOf(sheltersById), Map.copyOf(operations),
+        LocalDateTime.now());
+  }
+
+  // 정렬 기준 (sortBy 로 받는 필드명 -> 비교 방법), 첫 번째가 기본값
+  private static Map<String, Comparator<GetHospitalInfoRespDto>> hospitalSortKeys() {
+    Map<String, Comparator<GetHospitalInfoRespDto>> keys = new LinkedHashMap<>();
+    keys.put("name", InfoTable.byString(GetHospitalInfoRespDto::name));
+    keys.put("id", InfoTable.byNumber(GetHospitalInfoRespDto::id));
+    keys.put("type", InfoTable.byString(GetHospitalInfoRespDto::type));
+    keys.put("add1", InfoTable.byString(GetHospitalInfoRespDto::add1));
+    keys.put("add2", InfoTable.byString(GetHospitalInfoRespDto::add2));
+    keys.put("tel", InfoTable.byString(GetHospitalInfoRespDto::tel));
+    return keys;
+  }
+
+  private static Map<String, Comparator<GetShelterInfoRespDto>> shelterSortKeys() {
+    Map<String, Comparator<GetShelterInfoRespDto>> keys = new LinkedHashMap<>();
+    keys.put("name", InfoTable.byString(GetShelterInfoRespDto::name));
+    keys.put("shelterId", InfoTable.byNumber(GetShelterInfoRespDto::shelterId));
+    keys.put("type", InfoTable.byString(GetShelterInfoRespDto::type));
+    keys.put("add1", InfoTable.byString(GetShelterInfoRespDto::add1));
+    keys.put("tel", InfoTable.byString(GetShelterInfoRespDto::tel));
+    return keys;
+  }
+}
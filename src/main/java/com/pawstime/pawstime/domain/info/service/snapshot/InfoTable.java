@@ -0,0 +1,131 @@
+package com.pawstime.pawstime.domain.info.service.snapshot;
+
+import com.pawstime.pawstime.global.exception.InvalidException;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// 병원/보호소 한 종류의 불변 메모리 테이블
+// 행은 한 번만 만들어 두고, 정렬 기준마다 (지역 번호, 정렬 값, 순번) 순으로 정렬한 행 번호 배열을 미리 계산한다.
+// 같은 지역의 행은 모든 정렬 배열에서 같은 구간 [regionOffsets[r], regionOffsets[r + 1]) 에 모여 있으므로
+// 지역별 페이지 조회는 이진 탐색 한 번과 페이지 크기만큼의 배열 접근으로 끝난다.
+public class InfoTable<T> {
+
+  private static final int NO_REGION = Integer.MIN_VALUE;
+
+  private final List<T> rows;
+  private final int[] regionAddNums;   // 지역 번호 (오름차순, 중복 없음)
+  private final int[] regionOffsets;   // 지역별 시작 위치 (길이 = 지역 수 + 1)
+  private final Map<String, int[]> orders;  // 정렬 기준 -> 정렬된 행 번호
+  private final String defaultSortKey;
+
+  // sortKeys 의 첫 번째 항목이 기본 정렬 기준
+  // 정렬 값이 같으면 rows 의 순서 (ID 순으로 넘겨서 DB 조회 시 ID 를 두 번째 정렬 기준으로 쓰는 것과 같게 함)
+  public InfoTable(List<T> rows, Function<T, Integer> addNum, Map<String, Comparator<T>> sortKeys) {
+    this.rows = List.copyOf(rows);
+    this.defaultSortKey = sortKeys.keySet().iterator().next();
+
+    int size = this.rows.size();
+    int[] addNums = new int[size];
+    for (int i = 0; i < size; i++) {
+      Integer value = addNum.apply(this.rows.get(i));
+      addNums[i] = value == null ? NO_REGION : value;
+    }
+
+    // 지역 구간 계산
+    int[] sortedAddNums = addNums.clone();
+    Arrays.sort(sortedAddNums);
+    int regionCount = 0;
+    for (int i = 0; i < size; i++) {
+      if (i == 0 || sortedAddNums[i] != sortedAddNums[i - 1]) {
+        regionCount++;
+      }
+    }
+    this.regionAddNums = new int[regionCount];
+    this.regionOffsets = new int[regionCount + 1];
+    for (int i = 0, r = 0; i < size; i++) {
+      if (i == 0 || sortedAddNums[i] != sortedAddNums[i - 1]) {
+        regionAddNums[r] = sortedAddNums[i];
+        regionOffsets[r++] = i;
+      }
+    }
+    regionOffsets[regionCount] = size;
+
+    // 정렬 기준별 행 번호 배열
+    Map<String, int[]> built = new LinkedHashMap<>();
+    sortKeys.forEach((key, comparator) -> {
+      Integer[] ordinals = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        ordinals[i] = i;
+      }
+      Arrays.sort(ordinals, Comparator.<Integer>comparingInt(i -> addNums[i])
+          .thenComparing(i -> this.rows.get(i), comparator)
+          .thenComparingInt(i -> i));
+      built.put(key, Arrays.stream(ordinals).mapToInt(Integer::intValue).toArray());
+    });
+    this.orders = Map.copyOf(built);
+  }
+
+  public List<T> rows() {
+    return rows;
+  }
+
+  public int size() {
+    return rows.size();
+  }
+
+  // 지역 번호 addNum 의 행을 pageable 의 첫 번째 정렬 기준으로 정렬해 한 페이지 반환
+  public Page<T> page(int addNum, Pageable pageable) {
+    Sort.Order order = pageable.getSort().stream().findFirst().orElse(null);
+    String key = order == null ? defaultSortKey : order.getProperty();
+    int[] sorted = orders.get(key);
+    if (sorted == null) {
+      throw new InvalidException("정렬할 수 없는 항목입니다: " + key);
+    }
+
+    int region = Arrays.binarySearch(regionAddNums, addNum);
+    if (region < 0) {
+      return new PageImpl<>(List.of(), pageable, 0);
+    }
+    int from = regionOffsets[region];
+    int to = regionOffsets[region + 1];
+    int total = to - from;
+
+    long start = pageable.isPaged() ? pageable.getOffset() : 0;
+    if (start >= total) {
+      return new PageImpl<>(List.of(), pageable, total);
+    }
+    int end = (int) Math.min(total, pageable.isPaged() ? start + pageable.getPageSize() : total);
+
+    boolean ascending = order == null || order.isAscending();
+    List<T> content = new ArrayList<>(end - (int) start);
+    for (int i = (int) start; i < end; i++) {
+      content.add(rows.get(sorted[ascending ? from + i : to - 1 - i]));
+    }
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  // 문자열 정렬 값
+  // DB 정렬(ORDER BY) 과 같은 순서가 되도록 MySQL 기본 콜레이션(utf8mb4_0900_ai_ci) 처럼 대소문자/악센트를 구분하지 않고,
+  // null 은 오름차순에서 처음(내림차순은 배열을 뒤집으므로 마지막)
+  public static <T> Comparator<T> byString(Function<T, String> key) {
+    Collator collator = Collator.getInstance(Locale.ROOT);
+    collator.setStrength(Collator.PRIMARY);
+    return Comparator.comparing(key, Comparator.nullsFirst(collator::compare));
+  }
+
+  // 숫자 정렬 값 (null 은 오름차순에서 처음, DB 정렬과 같음)
+  public static <T, N extends Comparable<? super N>> Comparator<T> byNumber(Function<T, N> key) {
+    return Comparator.comparing(key, Comparator.nullsFirst(Comparator.naturalOrder()));
+  }
+}
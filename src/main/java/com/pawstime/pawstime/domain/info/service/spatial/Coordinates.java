@@ -0,0 +1,21 @@
+package com.pawstime.pawstime.domain.info.service.spatial;
+
+// 병원/보호소 테이블의 문자열 좌표(x = 경도, y = 위도) 변환
+public final class Coordinates {
+
+  private Coordinates() {
+  }
+
+  // 좌표가 비어 있거나 숫자가 아니면 null (지도/주변 검색 대상에서 제외)
+  public static Double parse(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      double parsed = Double.parseDouble(value.trim());
+      return Double.isFinite(parsed) ? parsed : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
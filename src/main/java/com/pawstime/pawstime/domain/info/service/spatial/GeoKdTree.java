@@ -0,0 +1,211 @@
+package com.pawstime.pawstime.domain.info.service.spatial;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+// 위경도 좌표에 대한 2차원 KD-tree (불변, 생성 후 조회만 가능)
+// 트리는 배열 하나에 암묵적으로 구성 : [lo, hi) 구간의 가운데 원소가 노드, 깊이에 따라 경도/위도 축을 번갈아 사용
+public class GeoKdTree {
+
+  private static final double EARTH_RADIUS_M = 6_371_000d;
+
+  private final double[] lngs;
+  private final double[] lats;
+  private final int[] ordinals;  // 트리 순서 -> 입력 순서(ordinal)
+
+  // 검색 결과 : 입력 순서(ordinal)와 거리(m)
+  public record Neighbor(int ordinal, double distance) {
+  }
+
+  // lngs[i], lats[i] 는 i 번째 항목의 좌표
+  public GeoKdTree(double[] lngs, double[] lats) {
+    this.lngs = lngs.clone();
+    this.lats = lats.clone();
+    this.ordinals = new int[lngs.length];
+    for (int i = 0; i < ordinals.length; i++) {
+      ordinals[i] = i;
+    }
+    build(0, ordinals.length, 0);
+  }
+
+  public int size() {
+    return ordinals.length;
+  }
+
+  // (lat, lng) 에서 radiusMeters 이내의 가까운 항목 k 개 (가까운 순, 거리는 하버사인 공식)
+  public List<Neighbor> nearest(double lat, double lng, int k, double radiusMeters) {
+    if (k <= 0 || ordinals.length == 0) {
+      return List.of();
+    }
+
+    Search search = new Search(lat, lng, k, radiusMeters);
+    search.visit(0, ordinals.length, 0);
+
+    List<Neighbor> result = new ArrayList<>(search.heap.size());
+    for (Candidate candidate : search.heap) {
+      result.add(new Neighbor(ordinals[candidate.node()], candidate.distance()));
+    }
+    result.sort(Comparator.comparingDouble(Neighbor::distance));
+    return result;
+  }
+
+  // 경도 [minLng, maxLng], 위도 [minLat, maxLat] 사각형 안에 있는 항목의 입력 순서(ordinal)
+  public int[] range(double minLng, double minLat, double maxLng, double maxLat) {
+    IntStream.Builder found = IntStream.builder();
+    rangeVisit(0, ordinals.length, 0, minLng, minLat, maxLng, maxLat, found);
+    return found.build().toArray();
+  }
+
+  private void rangeVisit(int lo, int hi, int depth,
+      double minLng, double minLat, double maxLng, double maxLat, IntStream.Builder found) {
+    if (lo >= hi) {
+      return;
+    }
+    int mid = (lo + hi) >>> 1;
+    if (lngs[mid] >= minLng && lngs[mid] <= maxLng && lats[mid] >= minLat && lats[mid] <= maxLat) {
+      found.add(ordinals[mid]);
+    }
+
+    // 왼쪽 구간은 분할 값 이하, 오른쪽 구간은 분할 값 이상
+    boolean lngAxis = depth % 2 == 0;
+    double key = lngAxis ? lngs[mid] : lats[mid];
+    if ((lngAxis ? minLng : minLat) <= key) {
+      rangeVisit(lo, mid, depth + 1, minLng, minLat, maxLng, maxLat, found);
+    }
+    if (key <= (lngAxis ? maxLng : maxLat)) {
+      rangeVisit(mid + 1, hi, depth + 1, minLng, minLat, maxLng, maxLat, found);
+    }
+  }
+
+  // 두 좌표 사이의 거리 (m)
+  public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  private record Candidate(int node, double distance) {
+  }
+
+  private class Search {
+
+    private final double lat;
+    private final double lng;
+    private final double cosLat;
+    private final int k;
+    private final double radius;
+    // 지금까지 찾은 후보 중 가장 먼 노드가 맨 앞 (최대 힙)
+    private final PriorityQueue<Candidate> heap;
+
+    Search(double lat, double lng, int k, double radius) {
+      this.lat = lat;
+      this.lng = lng;
+      this.cosLat = Math.cos(Math.toRadians(lat));
+      this.k = k;
+      this.radius = radius;
+      this.heap = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b.distance(), a.distance()));
+    }
+
+    void visit(int lo, int hi, int depth) {
+      if (lo >= hi) {
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+
+      double distance = haversine(lat, lng, lats[mid], lngs[mid]);
+      if (distance <= radius) {
+        heap.offer(new Candidate(mid, distance));
+        if (heap.size() > k) {
+          heap.poll();
+        }
+      }
+
+      // 질의 지점이 있는 쪽을 먼저 탐색하고, 분할면까지의 최단 거리가 현재 범위 이내일 때만 반대쪽 탐색
+      boolean lngAxis = depth % 2 == 0;
+      double axisDiff = lngAxis ? lngs[mid] - lng : lats[mid] - lat;
+      boolean leftFirst = axisDiff > 0;
+      if (leftFirst) {
+        visit(lo, mid, depth + 1);
+      } else {
+        visit(mid + 1, hi, depth + 1);
+      }
+      if (planeDistance(lngAxis, Math.abs(axisDiff)) <= bound()) {
+        if (leftFirst) {
+          visit(mid + 1, hi, depth + 1);
+        } else {
+          visit(lo, mid, depth + 1);
+        }
+      }
+    }
+
+    // 분할면 건너편의 어떤 점까지의 거리보다 작거나 같은 값 (가지치기가 결과를 놓치지 않도록)
+    // 위도 분할 : 위도 차이만큼의 자오선 거리, 경도 분할 : 분할 경도의 자오선(대원)까지의 거리
+    private double planeDistance(boolean lngAxis, double degrees) {
+      if (!lngAxis) {
+        return Math.toRadians(degrees) * EARTH_RADIUS_M;
+      }
+      double dLng = Math.toRadians(Math.min(degrees, 90));
+      return EARTH_RADIUS_M * Math.asin(Math.min(1, cosLat * Math.sin(dLng)));
+    }
+
+    private double bound() {
+      return heap.size() < k ? radius : Math.min(radius, heap.peek().distance());
+    }
+  }
+
+  private void build(int lo, int hi, int depth) {
+    if (hi - lo <= 1) {
+      return;
+    }
+    int mid = (lo + hi) >>> 1;
+    select(lo, hi - 1, mid, depth % 2 == 0 ? lngs : lats);
+    build(lo, mid, depth + 1);
+    build(mid + 1, hi, depth + 1);
+  }
+
+  // quickselect : keys 기준으로 n 번째 원소를 제자리에 두고, 왼쪽은 작거나 같고 오른쪽은 크거나 같게 정렬
+  private void select(int left, int right, int n, double[] keys) {
+    while (left < right) {
+      double pivot = keys[(left + right) >>> 1];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (keys[i] < pivot) {
+          i++;
+        }
+        while (keys[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          swap(i, j);
+          i++;
+          j--;
+        }
+      }
+      if (n <= j) {
+        right = j;
+      } else if (n >= i) {
+        left = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  private void swap(int i, int j) {
+    double lng = lngs[i];
+    lngs[i] = lngs[j];
+    lngs[j] = lng;
+    double lat = lats[i];
+    lats[i] = lats[j];
+    lats[j] = lat;
+    int ordinal = ordinals[i];
+    ordinals[i] = ordinals[j];
+    ordinals[j] = ordinal;
+  }
+}
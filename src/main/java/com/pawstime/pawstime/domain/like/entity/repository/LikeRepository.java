@@ -6,10 +6,10 @@ import com.pawstime.pawstime.domain.post.entity.Post;
 import java.util.Optional;
 
 import com.pawstime.pawstime.domain.user.entity.User;
-import org.apache.ibatis.annotations.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -22,4 +22,14 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     //게시글의 좋아요 갯수 조회
     @Query("SELECT COUNT(l) FROM Like l WHERE l.post = :post")
     int countByPost(@Param("post")Post post);
+
+    // 좋아요 추가 : (post_id, user_id) 유니크 제약으로 이미 있으면 무시 (추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (post_id, user_id) VALUES (:postId, :userId)", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 취소 : 엔티티 조회 없이 바로 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
 }
@@ -1,20 +1,13 @@
 package com.pawstime.pawstime.domain.like.facade;
 
-import com.pawstime.pawstime.domain.like.dto.req.CreateLikeReqDto;
-import com.pawstime.pawstime.domain.like.entity.Like;
 import com.pawstime.pawstime.domain.like.entity.repository.LikeRepository;
-import com.pawstime.pawstime.domain.post.entity.Post;
 import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
-import com.pawstime.pawstime.domain.post.facade.PostFacade;
-import com.pawstime.pawstime.domain.user.entity.User;
 import com.pawstime.pawstime.domain.user.facade.UserFacade;
 import com.pawstime.pawstime.global.exception.InvalidException;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.RequestBody;
 
 
 @Slf4j
@@ -27,33 +20,38 @@ public class LikeFacade {
     private final PostRepository postRepository;
     private final UserFacade userFacade;
 
+    // 좋아요 토글
+    // 게시글/좋아요 엔티티를 로딩하지 않고 (post_id, user_id) 기준 INSERT IGNORE 또는 DELETE 한 번으로 처리하고,
+    // 실제로 바뀐 행이 있을 때만 likes_count 를 SQL 로 원자적으로 증감한다.
+    // 데드락 방지 :
+    //  - 게시글 행을 먼저 잠가서 같은 게시글의 토글은 항상 같은 순서(게시글 -> 좋아요)로 잠금을 잡는다.
+    //    (잠그지 않으면 좋아요 INSERT 의 FK 검사로 잡은 게시글 공유 잠금을 likes_count UPDATE 에서 서로 올리려다 교착)
+    //  - INSERT 를 먼저 시도 : 없는 행을 DELETE 하면 갭 잠금이 걸려 다른 사용자의 INSERT 와 교착될 수 있음
     public int toggleLike(Long postId) {
-        User user = userFacade.getCurrentUser();
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new InvalidException("게시글을 찾을 수 없습니다."));
-
-        log.info("User ID: {}", user.getUserId());
-        log.info("Post ID: {}", post.getPostId());
-
-        Like like = likeRepository.findByUserAndPost(post, user).orElse(null);
-
-        if (like == null) {
-            log.info("좋아요 추가");
-            Like newLike = Like.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
-            likeRepository.save(newLike);
-            post.incrementLikesCount();
+        Long userId = userFacade.getCurrentUserId();
+
+        if (postRepository.lockPostId(postId) == null) {
+            throw new InvalidException("게시글을 찾을 수 없습니다.");
+        }
+
+        int delta;
+        if (likeRepository.insertIgnore(postId, userId) > 0) {
+            log.info("좋아요 추가 - User ID: {}, Post ID: {}", userId, postId);
+            delta = 1;
+        } else if (likeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+            log.info("좋아요 삭제 - User ID: {}, Post ID: {}", userId, postId);
+            delta = -1;
         } else {
-            log.info("좋아요 삭제");
-            likeRepository.delete(like);
-            likeRepository.flush(); // 즉시 DB 반영
-            post.getLikes().remove(like);
-            post.decrementLikesCount();
+            // 같은 사용자의 동시 요청이 먼저 좋아요를 취소한 경우 => 변경 없음
+            delta = 0;
+        }
+
+        if (delta != 0) {
+            postRepository.addLikesCount(postId, delta);
         }
 
-        log.info("최신 좋아요 개수: {}", post.getLikesCount());
-        return post.getLikesCount();
+        int likesCount = postRepository.findLikesCount(postId);
+        log.info("최신 좋아요 개수: {}", likesCount);
+        return likesCount;
     }
-}
\ No newline at end of file
+}
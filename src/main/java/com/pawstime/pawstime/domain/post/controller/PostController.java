@@ -7,6 +7,7 @@ import com.pawstime.pawstime.domain.post.dto.req.CreatePostReqDto;
 import com.pawstime.pawstime.domain.post.dto.req.UpdatePostReqDto;
 import com.pawstime.pawstime.domain.post.dto.resp.GetDetailPostRespDto;
 import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
+import com.pawstime.pawstime.domain.post.dto.resp.GetScrollPostRespDto;
 import com.pawstime.pawstime.domain.post.facade.PostFacade;
 import com.pawstime.pawstime.global.common.ApiResponse;
 import com.pawstime.pawstime.global.enums.Status;
@@ -59,12 +60,18 @@ public class PostController {
 
     List<String> imageUrls = new ArrayList<>();
 
-    // 이미지가 존재하면 S3에 업로드 후 URL 리스트 받기
+    // 이미지가 존재하면 S3에 병렬 업로드 후 URL 리스트 받기 (입력 순서 유지, 하나라도 실패하면 전체 실패)
     if (images != null && !images.isEmpty()) {
       imageUrls = s3Service.uploadFile(images);
     }
     // 게시글에 이미지 추가 (기본 이미지 처리 포함)
-    postFacade.addImagesToPost(postId, imageUrls);
+    try {
+      postFacade.addImagesToPost(postId, imageUrls);
+    } catch (RuntimeException e) {
+      // 게시글 연결에 실패하면 업로드한 파일 정리
+      s3Service.deleteUploadedFiles(imageUrls);
+      throw e;
+    }
     return ApiResponse.generateResp(Status.CREATE, "게시글과 이미지가 성공적으로 업로드되었습니다.", null);
   }
 
@@ -121,6 +128,23 @@ public class PostController {
     return ApiResponse.generateResp(Status.SUCCESS, "게시글 목록 조회 성공", posts.getContent());
   }
 
+  @Operation(summary = "게시글 목록 커서 조회", description = "응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회할 수 있습니다. (정렬: createdAt, views, likesCount, title)")
+  @GetMapping("/scroll")
+  public ResponseEntity<ApiResponse<GetScrollPostRespDto>> getPostScroll(
+      @RequestParam(required = false) Long boardId,
+      @RequestParam(required = false) String keyword,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "createdAt,desc") String sort) {
+
+    String[] sortParams = sort.split(",");
+    String sortBy = sortParams[0];
+    String direction = sortParams.length > 1 ? sortParams[1] : "desc";
+
+    GetScrollPostRespDto posts = postFacade.getPostScroll(boardId, keyword, cursor, size, sortBy, direction);
+    return ApiResponse.generateResp(Status.SUCCESS, "게시글 목록 조회 성공", posts);
+  }
+
   @Operation(summary = "현재 로그인한 사용자가 작성한 게시글 목록 조회")
   @GetMapping("/me")
   public ResponseEntity<ApiResponse<List<GetListPostRespDto>>> getPostListByUser(
@@ -135,6 +159,12 @@ public class PostController {
     );
   }
 
+  @Operation(summary = "여러 게시글의 대표 이미지 일괄 조회", description = "ids=1,2,3 형식으로 최대 100개까지 조회합니다. 존재하지 않거나 삭제된 게시글은 제외됩니다.")
+  @GetMapping("/thumbnails")
+  public ResponseEntity<ApiResponse<List<GetImageRespDto>>> getThumbnails(@RequestParam List<Long> ids) {
+    return ApiResponse.generateResp(Status.SUCCESS, null, postFacade.getThumbnails(ids));
+  }
+
   @Operation(summary = "게시글별 대표 이미지 조회")
   @GetMapping("/{postId}/thumbnail")
   public ResponseEntity<ApiResponse<List<GetImageRespDto>>> getThumbnail(@PathVariable Long postId) {
@@ -14,6 +14,7 @@ public record GetListPostRespDto(
         LocalDateTime updatedAt, // 수정일
         int views,               // 조회수
         int likesCount,// 좋아요 수
+        int commentCount,        // 댓글 수
         Long boardId // 게시판 아이디
 ) {
     // Post 엔티티를 DTO로 변환하는 메서드
@@ -29,6 +30,7 @@ public record GetListPostRespDto(
                 .updatedAt(post.getUpdatedAt())              // 수정일
                 .views(post.getViews())                      // 조회수
                 .likesCount(post.getLikesCount())
+                .commentCount(post.getCommentCount())
                 .boardId(post.getBoard().getBoardId())
                 .build();
     }
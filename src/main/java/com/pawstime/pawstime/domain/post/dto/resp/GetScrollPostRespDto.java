@@ -0,0 +1,10 @@
+package com.pawstime.pawstime.domain.post.dto.resp;
+
+import java.util.List;
+
+public record GetScrollPostRespDto(
+        List<GetListPostRespDto> posts, // 게시글 목록
+        String nextCursor,              // 다음 요청에 사용할 커서 (마지막 페이지면 null)
+        boolean hasNext                 // 다음 페이지 존재 여부
+) {
+}
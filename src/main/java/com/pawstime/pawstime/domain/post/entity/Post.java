@@ -12,11 +12,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import jakarta.persistence.Transient;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,7 +33,19 @@ import lombok.extern.slf4j.Slf4j;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "post")
+// 커서 조회용 복합 인덱스 (삭제 여부, 정렬 값, 게시글 ID)
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_delete_created_at", columnList = "is_delete, created_at, post_id"),
+        @Index(name = "idx_post_delete_views", columnList = "is_delete, views, post_id"),
+        @Index(name = "idx_post_delete_likes_count", columnList = "is_delete, likes_count, post_id"),
+        @Index(name = "idx_post_delete_title", columnList = "is_delete, title, post_id"),
+        // 게시판별 목록 (boardId 조건) : 다른 게시판의 행을 건너뛰지 않고 해당 게시판 구간만 읽도록 board_id 를 앞에 둔다
+        @Index(name = "idx_post_board_delete_created_at", columnList = "board_id, is_delete, created_at, post_id"),
+        @Index(name = "idx_post_board_delete_views", columnList = "board_id, is_delete, views, post_id"),
+        @Index(name = "idx_post_board_delete_likes_count", columnList = "board_id, is_delete, likes_count, post_id"),
+        @Index(name = "idx_post_board_delete_title", columnList = "board_id, is_delete, title, post_id"),
+        @Index(name = "idx_post_updated_at", columnList = "updated_at, post_id")  // 검색 색인 동기화
+})
 public class Post extends BaseEntity {
 
     @Id
@@ -67,6 +79,10 @@ public class Post extends BaseEntity {
     @Column(name = "views", nullable = false)
     private int views = 0; // 조회수 기본값을 0으로 설정
 
+    // 삭제되지 않은 댓글 수 (댓글 작성/삭제 시 SQL 로 원자적으로 증감, 어긋난 값은 주기적으로 보정)
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount = 0;
+
     //게시글 생성/삭제 시 연관된 이미지도 함께 처리.
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Image> images = new ArrayList<>(); // 게시글과 연관된 이미지 리스트
@@ -84,10 +100,9 @@ public class Post extends BaseEntity {
         this.views += 1;
     }
 
-    // 좋아요 수 계산 (Like 엔티티와의 관계에서 개수를 계산)
-    @Transient
+    // 좋아요 수는 likes_count 컬럼 값을 사용 (likes 컬렉션을 로딩하지 않음)
     public int getLikesCount() {
-        return likes.size();  // 연관된 Like 객체 수로 좋아요 수 계산
+        return likesCount;
     }
     public void setLikesCount(int likesCount) {this.likesCount = likesCount;}
 
@@ -0,0 +1,19 @@
+package com.pawstime.pawstime.domain.post.entity.repository;
+
+import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
+import com.pawstime.pawstime.domain.post.entity.Post;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+// 게시글 목록 전용 조회 (엔티티 대신 GetListPostRespDto 로 바로 조회)
+public interface PostListQueryRepository {
+
+  // 페이지 조회 (전체 개수가 필요할 때만 COUNT 쿼리 실행)
+  Page<GetListPostRespDto> findPostList(Specification<Post> spec, Pageable pageable);
+
+  // 커서 조회용: 정렬 후 limit 건만 조회 (COUNT 쿼리 없음)
+  List<GetListPostRespDto> findPostList(Specification<Post> spec, Sort sort, int limit);
+}
@@ -0,0 +1,99 @@
+package com.pawstime.pawstime.domain.post.entity.repository;
+
+import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
+import com.pawstime.pawstime.domain.post.entity.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+// 좋아요 컬렉션, 게시판, 작성자 엔티티를 로딩하지 않고 목록에 필요한 컬럼만 조회
+// 좋아요 수는 likes_count 컬럼, 작성자/게시판은 FK 값, 내용 미리보기는 DB 에서 잘라서 가져온다.
+@RequiredArgsConstructor
+public class PostListQueryRepositoryImpl implements PostListQueryRepository {
+
+  private static final int PREVIEW_LENGTH = 100;
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Page<GetListPostRespDto> findPostList(Specification<Post> spec, Pageable pageable) {
+    TypedQuery<GetListPostRespDto> query = createQuery(spec, pageable.getSort());
+    if (pageable.isPaged()) {
+      query.setFirstResult((int) pageable.getOffset());
+      query.setMaxResults(pageable.getPageSize());
+    }
+
+    // 첫 페이지에서 결과가 size 보다 적은 경우 등은 COUNT 쿼리 생략
+    return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+  }
+
+  @Override
+  public List<GetListPostRespDto> findPostList(Specification<Post> spec, Sort sort, int limit) {
+    return createQuery(spec, sort)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  private TypedQuery<GetListPostRespDto> createQuery(Specification<Post> spec, Sort sort) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<GetListPostRespDto> query = cb.createQuery(GetListPostRespDto.class);
+    Root<Post> root = query.from(Post.class);
+
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+
+    // 100자를 넘는 내용은 DB 에서 잘라서 "..." 을 붙임
+    Expression<String> content = root.get("content");
+    Expression<String> contentPreview = cb.<String>selectCase()
+        .when(cb.gt(cb.length(content), PREVIEW_LENGTH),
+            cb.concat(cb.substring(content, 1, PREVIEW_LENGTH), "..."))
+        .otherwise(content);
+
+    query.select(cb.construct(GetListPostRespDto.class,
+        root.get("postId"),
+        root.get("user").get("userId"),    // FK 값만 사용 (users 조인 없음)
+        root.get("title"),
+        contentPreview,
+        root.get("createdAt"),
+        root.get("updatedAt"),
+        root.get("views"),
+        root.get("likesCount"),            // likes 컬렉션 대신 저장된 좋아요 수
+        root.get("commentCount"),          // 댓글 COUNT 대신 저장된 댓글 수
+        root.get("board").get("boardId")
+    ));
+
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, cb));
+    }
+
+    return entityManager.createQuery(query);
+  }
+
+  private long count(Specification<Post> spec) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<Post> root = query.from(Post.class);
+
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.select(cb.count(root));
+
+    return entityManager.createQuery(query).getSingleResult();
+  }
+}
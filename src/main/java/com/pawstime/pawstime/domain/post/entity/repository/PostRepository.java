@@ -6,11 +6,45 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostListQueryRepository {
 
   Page<Post> findByUser(Pageable pageable, User user);
+
+  // 검색 색인 재구성용: 삭제되지 않은 게시글의 ID, 제목, 내용만 ID 순으로 조회
+  @Query("SELECT p.postId, p.title, p.content FROM Post p WHERE p.isDelete = false AND p.postId > :lastPostId ORDER BY p.postId")
+  List<Object[]> findSearchSourceAfter(Long lastPostId, Pageable pageable);
+
+  // 검색 색인 동기화용: (수정일, ID) 가 커서 이후인 게시글 (다른 서버에서 작성/수정/삭제된 게시글 포함)
+  @Query("SELECT p.postId, p.title, p.content, p.isDelete, p.updatedAt FROM Post p "
+      + "WHERE p.updatedAt > :since OR (p.updatedAt = :since AND p.postId > :lastPostId) "
+      + "ORDER BY p.updatedAt, p.postId")
+  List<Object[]> findSearchSourceUpdatedAfter(@Param("since") LocalDateTime since, @Param("lastPostId") Long lastPostId,
+      Pageable pageable);
+
+  // 좋아요 토글 전에 게시글 행을 배타 잠금 (게시글이 없으면 null)
+  @Query(value = "SELECT post_id FROM post WHERE post_id = :postId FOR UPDATE", nativeQuery = true)
+  Long lockPostId(@Param("postId") Long postId);
+
+  // 좋아요 수를 DB 에서 원자적으로 증감 (엔티티/좋아요 목록 로딩 없음, 0 미만으로 내려가지 않음)
+  @Modifying
+  @Query(value = "UPDATE post SET likes_count = GREATEST(likes_count + :delta, 0) WHERE post_id = :postId", nativeQuery = true)
+  int addLikesCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  @Query("SELECT p.likesCount FROM Post p WHERE p.postId = :postId")
+  Integer findLikesCount(@Param("postId") Long postId);
+
+  // 댓글 수를 DB 에서 원자적으로 증감 (0 미만으로 내려가지 않음)
+  @Modifying
+  @Query(value = "UPDATE post SET comment_count = GREATEST(comment_count + :delta, 0) WHERE post_id = :postId", nativeQuery = true)
+  int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
 }
 
 
@@ -4,12 +4,15 @@ import com.pawstime.pawstime.aws.s3.service.S3Service;
 import com.pawstime.pawstime.domain.board.entity.Board;
 import com.pawstime.pawstime.domain.image.dto.resp.GetImageRespDto;
 import com.pawstime.pawstime.domain.image.entity.Image;
+import com.pawstime.pawstime.domain.image.service.DefaultImageRegistry;
+import com.pawstime.pawstime.domain.image.service.RandomImagePool;
 import com.pawstime.pawstime.domain.image.service.ReadImageService;
 import com.pawstime.pawstime.domain.image.service.UpdateImageService;
 import com.pawstime.pawstime.domain.post.dto.req.CreatePostReqDto;
 import com.pawstime.pawstime.domain.post.dto.req.UpdatePostReqDto;
 import com.pawstime.pawstime.domain.post.dto.resp.GetDetailPostRespDto;
 import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
+import com.pawstime.pawstime.domain.post.dto.resp.GetScrollPostRespDto;
 import com.pawstime.pawstime.domain.post.entity.Post;
 import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
 import com.pawstime.pawstime.domain.post.service.create.CreatePostService;
@@ -17,23 +20,25 @@ import com.pawstime.pawstime.domain.post.service.GetDetailPostService;
 import com.pawstime.pawstime.domain.post.service.GetListPostService;
 import com.pawstime.pawstime.domain.post.service.read.ReadPostService;
 import com.pawstime.pawstime.domain.post.service.UpdatePostService;
+import com.pawstime.pawstime.domain.post.service.search.PostSearchIndex;
 import com.pawstime.pawstime.domain.user.entity.User;
 import com.pawstime.pawstime.domain.user.service.read.ReadUserService;
 import com.pawstime.pawstime.global.exception.ForbiddenException;
 import com.pawstime.pawstime.global.exception.InvalidException;
 import com.pawstime.pawstime.global.exception.NotFoundException;
 
-import com.pawstime.pawstime.global.exception.UnauthorizedException;
 import com.pawstime.pawstime.global.jwt.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -50,6 +55,10 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class PostFacade {
 
+    // 커서 조회 한 번에 가져올 수 있는 최대 게시글 수
+    private static final int MAX_SCROLL_SIZE = 50;
+    private static final int MAX_THUMBNAIL_IDS = 100;
+
     private final ReadPostService readPostService;
     private final CreatePostService createPostService;
     private final UpdatePostService updatePostService;
@@ -62,15 +71,14 @@ public class PostFacade {
     private final JwtUtil jwtUtil;
     private final ReadUserService readUserService;
     private final S3Service s3Service;
+    private final PostSearchIndex postSearchIndex;
+    private final DefaultImageRegistry defaultImageRegistry;
+    private final RandomImagePool randomImagePool;
 
     //게시글 생성
     public Long createPost(CreatePostReqDto req, HttpServletRequest request) {
-        // 토큰을 이용해서 userId값을 가져옴
-        Long userId = jwtUtil.getUserIdFromToken(request);
-
-        if (userId == null) {
-            throw new UnauthorizedException("로그인해주세요.");
-        }
+        // 필터에서 검증한 토큰의 userId값을 가져옴
+        Long userId = jwtUtil.requirePrincipal(request).userId();
 
         // 가져온 userId를 이용해 user 조회
         User user = readUserService.findUserByUserIdQuery(userId);
@@ -113,9 +121,6 @@ public class PostFacade {
     }
 
     /// //////////////////////////////////////////
-    @Value("${default.img-url}")
-    private String defaultImageUrl;
-
     @Transactional
     public void addImagesToPost(Long postId, List<String> imageUrls) {
 
@@ -133,12 +138,8 @@ public class PostFacade {
             // 이미지가 없으면 기본 이미지 추가
             if (post.getImages().isEmpty()) {
                 try {
-                    // 기본 이미지 업로드
-                    String uploadedImageUrl = s3Service.uploadDefaultImageToS3("static/default-img.jpg"); // 기본 이미지 업로드
-                    Image defaultImage = new Image();
-                    defaultImage.setImageUrl(uploadedImageUrl); // 업로드된 이미지 URL 사용
-                    defaultImage.setPost(post);
-                    post.addImage(defaultImage);
+                    // 공유 기본 이미지를 연결 (게시글마다 새로 업로드하지 않음)
+                    post.addImage(defaultImageRegistry.createDefaultImage());
                 } catch (Exception e) {
                     // 기본 이미지 업로드 실패 시 로그 기록
                     log.error("기본 이미지 업로드 실패ss: {}", e.getMessage());
@@ -168,12 +169,10 @@ public class PostFacade {
 
         // 게시글을 쓴 유저와 현재 로그인한 유저가 같은지 확인하는 로직
         // 게시글을 쓴 userId와 토큰에 담긴 userId가 다르면 게시글 수정 요청 처리 불가
-        if (!post.getUser().getUserId().equals(jwtUtil.getUserIdFromToken(httpServletRequest))) {
-            // userId가 다르더라도 role이 ADMIN인 경우 관리자이므로 게시글 수정 가능
-            if (!jwtUtil.getUserRoleFromToken(httpServletRequest).equals("ADMIN")) {
-                // userId도 다르고, ADMIN도 아니라면 예외 던지기
-                throw new ForbiddenException("권한이 없습니다.");
-            }
+        // userId가 다르더라도 role이 ADMIN인 경우 관리자이므로 게시글 수정 가능
+        if (!jwtUtil.requirePrincipal(httpServletRequest).isOwnerOrAdmin(post.getUser().getUserId())) {
+            // userId도 다르고, ADMIN도 아니라면 예외 던지기
+            throw new ForbiddenException("권한이 없습니다.");
         }
 
         // 게시글 존재 여부 및 삭제 상태 확인
@@ -194,10 +193,8 @@ public class PostFacade {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글이 존재하지 않습니다."));
 
-        if (!post.getUser().getUserId().equals(jwtUtil.getUserIdFromToken(httpServletRequest))) {
-            if (!jwtUtil.getUserRoleFromToken(httpServletRequest).equals("ADMIN")) {
-                throw new ForbiddenException("권한이 없습니다.");
-            }
+        if (!jwtUtil.requirePrincipal(httpServletRequest).isOwnerOrAdmin(post.getUser().getUserId())) {
+            throw new ForbiddenException("권한이 없습니다.");
         }
 
         // 삭제할 이미지 처리
@@ -219,10 +216,8 @@ public class PostFacade {
         // 게시글 조회
         Post post = readPostService.findPostById(postId);
 
-        if (!post.getUser().getUserId().equals(jwtUtil.getUserIdFromToken(httpServletRequest))) {
-            if (!jwtUtil.getUserRoleFromToken(httpServletRequest).equals("ADMIN")) {
-                throw new ForbiddenException("권한이 없습니다.");
-            }
+        if (!jwtUtil.requirePrincipal(httpServletRequest).isOwnerOrAdmin(post.getUser().getUserId())) {
+            throw new ForbiddenException("권한이 없습니다.");
         }
 
         if (post == null) {
@@ -238,6 +233,7 @@ public class PostFacade {
         // 이미지 URL 추출하여 삭제
         if (images != null && !images.isEmpty()) {
             List<String> imageUrls = images.stream()
+                    .filter(image -> !defaultImageRegistry.isSharedDefault(image)) // 여러 게시글이 공유하는 기본 이미지는 삭제하지 않음
                     .map(Image::getImageUrl) // 이미지 URL 추출
                     .collect(Collectors.toList());
 
@@ -256,6 +252,10 @@ public class PostFacade {
 
         // 게시글 상태 저장
         postRepository.save(post);  // 게시글만 저장
+
+        // 검색 색인, 랜덤 이미지 풀에서 제거
+        postSearchIndex.remove(postId);
+        randomImagePool.evictPost(postId);
     }
 
     public GetDetailPostRespDto getDetailPost(Long postId) {
@@ -276,6 +276,14 @@ public class PostFacade {
         return getListPostService.getPostList(boardId, keyword, pageable, sortBy, direction);
     }
 
+    // 게시글 목록 커서 조회 (무한 스크롤)
+    public GetScrollPostRespDto getPostScroll(Long boardId, String keyword, String cursor, int size, String sortBy, String direction) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new InvalidException("size는 1 이상 " + MAX_SCROLL_SIZE + " 이하로 입력해주세요.");
+        }
+        return getListPostService.getPostScroll(boardId, keyword, cursor, size, sortBy, direction);
+    }
+
     // 게시글 ID로 조회
     public Post getPostId(Long postId) {
         return postRepository.findById(postId).orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
@@ -308,6 +316,31 @@ public class PostFacade {
       return thumbnail;
   }
 
+  // 게시글 목록 카드의 대표 이미지 일괄 조회 (게시글 수와 관계없이 쿼리 1번)
+  // 존재하지 않거나 삭제된 게시글은 결과에서 제외하고, 요청한 순서대로 반환
+  public List<GetImageRespDto> getThumbnails(List<Long> postIds) {
+      if (postIds == null || postIds.isEmpty()) {
+          throw new InvalidException("게시글 ID를 입력해주세요.");
+      }
+
+      Set<Long> ids = new LinkedHashSet<>(postIds);
+      ids.remove(null);
+      if (ids.size() > MAX_THUMBNAIL_IDS) {
+          throw new InvalidException("대표 이미지는 한 번에 " + MAX_THUMBNAIL_IDS + "개 게시글까지 조회할 수 있습니다.");
+      }
+      if (ids.isEmpty()) {
+          return List.of();
+      }
+
+      Map<Long, GetImageRespDto> thumbnails = readImageService.getThumbnails(ids).stream()
+              .collect(Collectors.toMap(GetImageRespDto::postId, thumbnail -> thumbnail));
+
+      return ids.stream()
+              .map(thumbnails::get)
+              .filter(Objects::nonNull)
+              .toList();
+  }
+
     public List<GetImageRespDto> getImages(Long postId) {
         Post post = readPostService.findPostId(postId);
 
@@ -326,10 +359,8 @@ public class PostFacade {
     }
 
     public Page<GetImageRespDto> getRandomImages() {
-        Pageable pageable = PageRequest.of(0, 5);
-        // 전체 이미지 중 5개의 이미지만 가져오도록 Pageable사용 (repository에서 랜덤으로 정렬한 후 5개만 가져옴)
-
-        return readImageService.getRandomImages(pageable).map(GetImageRespDto::from);
+        // 미리 뽑아 둔 랜덤 이미지 풀에서 5개를 가져옴 (요청마다 DB를 조회하지 않음)
+        return new PageImpl<>(randomImagePool.draw(5));
     }
 
     public void incrementLikesCount(Post post){
@@ -345,11 +376,10 @@ public class PostFacade {
     }
 
     public Page<GetListPostRespDto> getPostListByUser(int pageNo, int pageSize, String sortBy, String direction, HttpServletRequest httpServletRequest) {
-        Long userId = jwtUtil.getUserIdFromToken(httpServletRequest);
-        User user = readUserService.findUserByUserIdQuery(userId);
+        Long userId = jwtUtil.requirePrincipal(httpServletRequest).userId();
 
         Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by(Sort.Direction.fromString(direction), sortBy));
 
-        return readPostService.findByUser(pageable, user).map(GetListPostRespDto::from);
+        return getListPostService.getPostListByUser(userId, pageable);
     }
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.pawstime.pawstime.domain.post.service;
 
-import com.pawstime.pawstime.domain.comment.entity.repository.CommentRepository;
 import com.pawstime.pawstime.domain.post.dto.resp.GetDetailPostRespDto;
 import com.pawstime.pawstime.domain.post.entity.Post;
 import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
+import com.pawstime.pawstime.domain.post.service.view.PostViewCountAggregator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,18 +11,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GetDetailPostService {
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
+    private final PostViewCountAggregator postViewCountAggregator;
 
     public GetDetailPostRespDto getDetailPost(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElse(null);
 
-        post.increaseViews();
-        postRepository.save(post); // 조회수가 증가된 게시글 저장
+        // 조회수는 메모리에 누적 후 주기적으로 일괄 반영 (상세 조회 시 post 행을 UPDATE 하지 않음)
+        postViewCountAggregator.increment(post.getPostId());
 
-        long commentCount = commentRepository.countByPost(post);
-
-        // DTO 반환 시 댓글 수 포함
-        return GetDetailPostRespDto.from(post, commentCount);
+        // 댓글 수는 post.comment_count 컬럼 값 사용 (COUNT 쿼리 없음)
+        return GetDetailPostRespDto.from(post, post.getCommentCount());
     }
 }
@@ -1,11 +1,17 @@
 package com.pawstime.pawstime.domain.post.service;
 
 import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
+import com.pawstime.pawstime.domain.post.dto.resp.GetScrollPostRespDto;
 import com.pawstime.pawstime.domain.post.entity.Post;
 import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
+import com.pawstime.pawstime.domain.post.service.search.PostSearchIndex;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
@@ -14,22 +20,91 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GetListPostService {
 
+    // 색인 후보가 이보다 많으면 IN 조건이 오히려 느려지므로 기존 LIKE 검색 사용
+    static final int MAX_INDEX_CANDIDATES = 1000;
+
     private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
 
     // 게시글 목록 조회
     public Page<GetListPostRespDto> getPostList(Long boardId, String keyword, Pageable pageable, String sortBy, String direction) {
+        Specification<Post> keywordSpec = keywordSpec(keyword);
+
+        // 색인 기준으로 검색어를 포함하는 게시글이 하나도 없으면 DB 조회 생략
+        if (keywordSpec == null) {
+            return Page.empty(pageable);
+        }
+
         // 기본적으로 삭제되지 않은 게시글만 조회하는 Specification
         Specification<Post> spec = Specification.where(PostSpecification.isNotDeleted())
-                .and(PostSpecification.hasKeyword(keyword))
+                .and(keywordSpec)
+                .and(PostSpecification.belongsToBoard(boardId))
+                .and(PostSpecification.boardIsNotDeleted());
+
+        // 요청된 페이지를 정렬 조건에 맞게 DTO 로 바로 조회
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sortOf(sortBy, direction));
+        return postRepository.findPostList(spec, sortedPageable);
+    }
+
+    // 사용자가 작성한 게시글 목록 조회
+    public Page<GetListPostRespDto> getPostListByUser(Long userId, Pageable pageable) {
+        return postRepository.findPostList(PostSpecification.writtenBy(userId), pageable);
+    }
+
+    // 게시글 목록 커서 조회
+    // OFFSET 대신 (정렬 값, 게시글 ID) 커서 이후의 행만 읽고, COUNT 쿼리 없이 size + 1 건으로 다음 페이지 여부를 판단
+    public GetScrollPostRespDto getPostScroll(Long boardId, String keyword, String cursor, int size, String sortBy, String direction) {
+        String sortKey = PostCursor.normalizeSortBy(sortBy);
+        String sortDirection = PostCursor.normalizeDirection(direction);
+        PostCursor after = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor, sortKey, sortDirection);
+
+        Specification<Post> keywordSpec = keywordSpec(keyword);
+        if (keywordSpec == null) {
+            return new GetScrollPostRespDto(List.of(), null, false);
+        }
+
+        Specification<Post> spec = Specification.where(PostSpecification.isNotDeleted())
+                .and(keywordSpec)
                 .and(PostSpecification.belongsToBoard(boardId))
                 .and(PostSpecification.boardIsNotDeleted())
-                .and(PostSpecification.orderBy(sortBy, direction)); // 정렬 기준 추가
+                .and(PostSpecification.afterCursor(after));
+
+        List<GetListPostRespDto> posts = postRepository.findPostList(spec, sortOf(sortKey, sortDirection), size + 1);
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+        String nextCursor = hasNext ? PostCursor.of(posts.get(posts.size() - 1), sortKey, sortDirection).encode() : null;
+
+        return new GetScrollPostRespDto(posts, nextCursor, hasNext);
+    }
+
+    // 정렬 값이 같은 게시글은 게시글 ID 로 순서를 고정 (post 테이블의 복합 인덱스와 같은 순서)
+    private Sort sortOf(String sortBy, String direction) {
+        Sort.Direction sortDirection = Sort.Direction.fromString(PostCursor.normalizeDirection(direction));
+        return Sort.by(sortDirection, PostCursor.normalizeSortBy(sortBy)).and(Sort.by(sortDirection, "postId"));
+    }
+
+    // 검색어 조건 생성
+    // 색인으로 후보 게시글을 먼저 좁힌 뒤, 후보 안에서만 LIKE 로 최종 확인 (결과는 기존 LIKE 검색과 동일)
+    // null 반환 시 검색 결과 없음
+    private Specification<Post> keywordSpec(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return PostSpecification.hasKeyword(keyword); // 조건 없음
+        }
+
+        Set<Long> candidates = postSearchIndex.search(keyword);
 
-        // Pageable 객체로 요청된 페이지와 정렬 조건에 맞게 조회
-        Page<Post> posts = postRepository.findAll(spec, pageable);
+        // 색인으로 처리할 수 없는 검색어이거나 후보가 너무 많으면 기존 LIKE 검색
+        if (candidates == null || candidates.size() > MAX_INDEX_CANDIDATES) {
+            return PostSpecification.hasKeyword(keyword);
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
 
-        // 게시글을 DTO로 변환하여 반환
-        return posts.map(GetListPostRespDto::from);
+        return PostSpecification.idIn(candidates).and(PostSpecification.hasKeyword(keyword));
     }
 
 }
@@ -0,0 +1,78 @@
+package com.pawstime.pawstime.domain.post.service;
+
+import com.pawstime.pawstime.domain.post.dto.resp.GetListPostRespDto;
+import com.pawstime.pawstime.global.exception.InvalidException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+
+// 커서 기반 게시글 목록 조회용 커서
+// (정렬 기준, 정렬 방향, 마지막 게시글 ID, 마지막 게시글의 정렬 값)을 base64url 문자열로 만들어 클라이언트에 전달한다.
+public record PostCursor(String sortBy, String direction, Long postId, String value) {
+
+  private static final String DELIMITER = "|";
+  private static final Set<String> SORT_KEYS = Set.of("createdAt", "views", "likesCount", "title");
+
+  // 지원하지 않는 정렬 기준은 기본값(createdAt)으로 처리
+  public static String normalizeSortBy(String sortBy) {
+    for (String key : SORT_KEYS) {
+      if (key.equalsIgnoreCase(sortBy)) {
+        return key;
+      }
+    }
+    return "createdAt";
+  }
+
+  public static String normalizeDirection(String direction) {
+    return "asc".equalsIgnoreCase(direction) ? "asc" : "desc";
+  }
+
+  // 페이지의 마지막 게시글로 다음 커서 생성
+  public static PostCursor of(GetListPostRespDto post, String sortBy, String direction) {
+    String value = switch (sortBy) {
+      case "views" -> String.valueOf(post.views());
+      case "likesCount" -> String.valueOf(post.likesCount());
+      case "title" -> post.title();
+      default -> String.valueOf(post.createdAt());
+    };
+    return new PostCursor(sortBy, direction, post.id(), value);
+  }
+
+  public String encode() {
+    String raw = sortBy + DELIMITER + direction + DELIMITER + postId + DELIMITER + value;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 요청한 정렬 조건과 다른 커서이거나 변조된 커서는 거부
+  public static PostCursor decode(String cursor, String sortBy, String direction) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 4);  // 제목에 구분자가 들어갈 수 있으므로 값은 마지막에 둔다
+
+      PostCursor decoded = new PostCursor(parts[0], parts[1], Long.valueOf(parts[2]), parts[3]);
+      if (!decoded.sortBy().equals(sortBy) || !decoded.direction().equals(direction)) {
+        throw new InvalidException("커서의 정렬 조건이 요청과 일치하지 않습니다.");
+      }
+      decoded.typedValue();  // 값 형식 확인
+      return decoded;
+    } catch (InvalidException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new InvalidException("유효하지 않은 커서입니다.");
+    }
+  }
+
+  public boolean isAsc() {
+    return "asc".equals(direction);
+  }
+
+  // 정렬 기준에 맞는 타입으로 변환한 정렬 값
+  public Comparable<?> typedValue() {
+    return switch (sortBy) {
+      case "views", "likesCount" -> Integer.valueOf(value);
+      case "title" -> value;
+      default -> LocalDateTime.parse(value);
+    };
+  }
+}
@@ -1,8 +1,14 @@
 package com.pawstime.pawstime.domain.post.service;
 
 import com.pawstime.pawstime.domain.post.entity.Post;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public class PostSpecification {
 
     public static Specification<Post> isNotDeleted() {
@@ -26,6 +32,11 @@ public class PostSpecification {
         };
     }
 
+    // 검색 색인에서 찾은 후보 게시글로 범위 제한
+    public static Specification<Post> idIn(Collection<Long> postIds) {
+        return (root, query, criteriaBuilder) -> root.get("postId").in(postIds);
+    }
+
     public static Specification<Post> belongsToBoard(Long boardId) {
         return (root, query, criteriaBuilder) -> {
             if (boardId == null) {
@@ -35,6 +46,43 @@ public class PostSpecification {
         };
     }
 
+    public static Specification<Post> writtenBy(Long userId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("user").get("userId"), userId);
+    }
+
+    // 커서 이후의 게시글만 조회 (정렬 값이 같으면 게시글 ID 로 순서 결정)
+    public static Specification<Post> afterCursor(PostCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction(); // 첫 페이지
+            }
+            Expression<Long> postId = root.get("postId");
+            return switch (cursor.sortBy()) {
+                case "views", "likesCount" -> keyset(criteriaBuilder, root.<Integer>get(cursor.sortBy()),
+                        (Integer) cursor.typedValue(), postId, cursor.postId(), cursor.isAsc());
+                case "title" -> keyset(criteriaBuilder, root.<String>get("title"),
+                        (String) cursor.typedValue(), postId, cursor.postId(), cursor.isAsc());
+                default -> keyset(criteriaBuilder, root.<LocalDateTime>get("createdAt"),
+                        (LocalDateTime) cursor.typedValue(), postId, cursor.postId(), cursor.isAsc());
+            };
+        };
+    }
+
+    // (key, postId) 가 커서 값보다 뒤에 있는 행 : key > v OR (key = v AND postId > id), 내림차순이면 부등호 반대
+    private static <T extends Comparable<? super T>> Predicate keyset(CriteriaBuilder criteriaBuilder, Expression<T> key, T value,
+                                                                      Expression<Long> postId, Long lastPostId, boolean asc) {
+        if (asc) {
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(key, value),
+                    criteriaBuilder.and(criteriaBuilder.equal(key, value), criteriaBuilder.greaterThan(postId, lastPostId))
+            );
+        }
+        return criteriaBuilder.or(
+                criteriaBuilder.lessThan(key, value),
+                criteriaBuilder.and(criteriaBuilder.equal(key, value), criteriaBuilder.lessThan(postId, lastPostId))
+        );
+    }
+
     public static Specification<Post> orderBy(String sortBy, String direction) {
         return (root, query, criteriaBuilder) -> {
             if ("views".equalsIgnoreCase(sortBy)) {
@@ -3,6 +3,7 @@ package com.pawstime.pawstime.domain.post.service;
 import com.pawstime.pawstime.domain.post.dto.req.UpdatePostReqDto;
 import com.pawstime.pawstime.domain.post.entity.Post;
 import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
+import com.pawstime.pawstime.domain.post.service.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,11 +12,13 @@ import org.springframework.stereotype.Service;
 public class UpdatePostService {
 
   private final PostRepository postRepository;
+  private final PostSearchIndex postSearchIndex;
 
   // 게시글 수정 및 저장
   public void updatePost(Post post, UpdatePostReqDto req) {
     post.setTitle(req.title());
     post.setContent(req.content());
     postRepository.save(post);
+    postSearchIndex.index(post);  // 변경된 제목/내용으로 검색 색인 갱신
   }
 }
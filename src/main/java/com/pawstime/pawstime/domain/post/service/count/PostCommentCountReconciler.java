@@ -0,0 +1,55 @@
+package com.pawstime.pawstime.domain.post.service.count;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// post.comment_count 보정
+// 댓글 수는 작성/삭제 시 증감으로만 관리하므로, 직접 수정한 데이터나 장애로 어긋난 값을
+// 게시글 ID 구간별로 실제 댓글 수(삭제되지 않은 댓글)와 비교해 다른 행만 고친다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCountReconciler {
+
+  private static final long BATCH_SIZE = 1000;
+
+  private static final String RECONCILE_SQL = """
+      UPDATE post p
+      LEFT JOIN (
+          SELECT post_id, COUNT(*) AS cnt FROM comment
+          WHERE is_delete = false AND post_id BETWEEN ? AND ?
+          GROUP BY post_id
+      ) c ON c.post_id = p.post_id
+      SET p.comment_count = COALESCE(c.cnt, 0)
+      WHERE p.post_id BETWEEN ? AND ? AND p.comment_count <> COALESCE(c.cnt, 0)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 구간마다 별도 문장으로 실행하여 한 번에 많은 행을 잠그지 않음
+  @Scheduled(fixedDelayString = "${post.comment-count.reconcile-interval-ms:3600000}",
+      initialDelayString = "${post.comment-count.reconcile-initial-delay-ms:60000}")
+  public void reconcile() {
+    Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+    if (maxPostId == null) {
+      return;
+    }
+
+    int repaired = 0;
+    for (long from = 1; from <= maxPostId; from += BATCH_SIZE) {
+      long to = from + BATCH_SIZE - 1;
+      try {
+        repaired += jdbcTemplate.update(RECONCILE_SQL, from, to, from, to);
+      } catch (Exception e) {
+        log.error("댓글 수 보정 실패 (게시글 ID {} ~ {}): {}", from, to, e.getMessage());
+      }
+    }
+
+    if (repaired > 0) {
+      log.warn("댓글 수가 어긋난 게시글 보정: {}건", repaired);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.pawstime.pawstime.domain.post.service.create;
 
 import com.pawstime.pawstime.domain.post.entity.Post;
 import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
+import com.pawstime.pawstime.domain.post.service.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,10 +11,13 @@ import org.springframework.stereotype.Service;
 public class CreatePostService {
 
   private final PostRepository postRepository;
+  private final PostSearchIndex postSearchIndex;
 
   public Post createPost(Post post){
 
-    return postRepository.save(post);
+    Post savedPost = postRepository.save(post);
+    postSearchIndex.index(savedPost);  // 검색 색인에 반영
+    return savedPost;
 
   }
 }
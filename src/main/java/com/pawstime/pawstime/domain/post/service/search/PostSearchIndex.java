@@ -0,0 +1,264 @@
+package com.pawstime.pawstime.domain.post.service.search;
+
+import com.pawstime.pawstime.domain.post.entity.Post;
+import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 게시글 제목/내용에 대한 메모리 역색인 (bigram 단위)
+// 검색 결과는 "후보 게시글 ID" 이며, 최종 일치 여부는 DB 에서 후보 범위 안에서만 다시 확인한다.
+// 다른 서버에서 작성/수정/삭제된 게시글은 updated_at 기준으로 주기적으로 따라잡고,
+// 동기화가 일정 시간 이상 밀리면 색인을 쓰지 않고 LIKE 검색으로 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+  private static final int REBUILD_CHUNK_SIZE = 1000;
+  // 수정일은 커밋보다 먼저 기록되고 서버마다 시계가 조금씩 다르므로, 동기화 구간을 이만큼 겹쳐서 다시 읽는다
+  private static final long SYNC_OVERLAP_SECONDS = 60;
+
+  private final PostRepository postRepository;
+
+  // bigram -> 해당 bigram 을 포함하는 게시글 ID 목록
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+  // 게시글 ID -> 색인된 bigram 목록 (수정/삭제 시 기존 토큰을 지우기 위해 보관)
+  private final Map<Long, Set<String>> documents = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private volatile boolean ready = false;
+
+  // 다음 동기화에서 읽기 시작할 수정일
+  private volatile LocalDateTime syncedUntil;
+  // 마지막으로 재구성/동기화에 성공한 시각 (ms)
+  private volatile long lastSyncMillis;
+
+  // 마지막 동기화 후 이 시간이 지나면 색인이 최신이 아닐 수 있으므로 사용하지 않음
+  @Value("${post.search-index.max-staleness-ms:60000}")
+  private long maxStalenessMs = 60000;
+
+  // 애플리케이션 시작 시 DB 의 게시글로 색인 재구성
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void rebuild() {
+    long start = System.currentTimeMillis();
+    LocalDateTime syncFrom = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+    ready = false;
+
+    lock.writeLock().lock();
+    try {
+      postings.clear();
+      documents.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    long lastPostId = 0L;
+    int count = 0;
+    try {
+      while (true) {
+        List<Object[]> rows = postRepository.findSearchSourceAfter(lastPostId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+        if (rows.isEmpty()) {
+          break;
+        }
+        for (Object[] row : rows) {
+          lastPostId = (Long) row[0];
+          put(lastPostId, (String) row[1], (String) row[2]);
+          count++;
+        }
+      }
+    } catch (Exception e) {
+      // 색인 구성에 실패해도 검색은 기존 LIKE 방식으로 동작하도록 ready 를 false 로 둔다
+      log.error("게시글 검색 색인 재구성 실패: {}", e.getMessage(), e);
+      return;
+    }
+
+    syncedUntil = syncFrom;
+    lastSyncMillis = System.currentTimeMillis();
+    ready = true;
+    log.info("게시글 검색 색인 재구성 완료: 게시글 {}건, 토큰 {}개, {}ms",
+        count, postings.size(), System.currentTimeMillis() - start);
+  }
+
+  // 마지막 동기화 이후 작성/수정/삭제된 게시글 반영 (이 서버에서 직접 처리한 변경은 다시 반영해도 결과가 같음)
+  @Scheduled(fixedDelayString = "${post.search-index.sync-interval-ms:10000}")
+  public synchronized void sync() {
+    if (!ready) {
+      return;  // 재구성 전이거나 재구성에 실패한 경우
+    }
+
+    LocalDateTime nextSyncFrom = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+    LocalDateTime cursorAt = syncedUntil;
+    long cursorId = 0L;
+    int count = 0;
+    try {
+      while (true) {
+        List<Object[]> rows = postRepository.findSearchSourceUpdatedAfter(
+            cursorAt, cursorId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+        if (rows.isEmpty()) {
+          break;
+        }
+        for (Object[] row : rows) {
+          cursorId = (Long) row[0];
+          cursorAt = (LocalDateTime) row[4];
+          if ((Boolean) row[3]) {
+            delete(cursorId);
+          } else {
+            put(cursorId, (String) row[1], (String) row[2]);
+          }
+          count++;
+        }
+      }
+    } catch (Exception e) {
+      // 동기화가 계속 실패하면 lastSyncMillis 가 갱신되지 않아 검색은 LIKE 로 처리됨
+      log.error("게시글 검색 색인 동기화 실패: {}", e.getMessage(), e);
+      return;
+    }
+
+    syncedUntil = nextSyncFrom;
+    lastSyncMillis = System.currentTimeMillis();
+    log.debug("게시글 검색 색인 동기화: {}건", count);
+  }
+
+  // 게시글 생성/수정 시 호출 (트랜잭션 커밋 이후 반영)
+  public void index(Post post) {
+    Long postId = post.getPostId();
+    String title = post.getTitle();
+    String content = post.getContent();
+    afterCommit(() -> put(postId, title, content));
+  }
+
+  // 게시글 삭제 시 호출 (트랜잭션 커밋 이후 반영)
+  public void remove(Long postId) {
+    afterCommit(() -> delete(postId));
+  }
+
+  // 검색어의 모든 bigram 을 포함하는 게시글 ID 반환
+  // null 을 반환하면 색인으로 처리할 수 없는 검색어이므로 기존 LIKE 검색을 사용해야 한다.
+  public Set<Long> search(String keyword) {
+    // 색인 준비 전이거나 동기화가 밀린 경우, LIKE 와일드카드(%, _)가 섞인 검색어는 색인으로 같은 결과를 보장할 수 없음
+    if (!isUsable() || keyword == null || keyword.contains("%") || keyword.contains("_")) {
+      return null;
+    }
+
+    Set<String> tokens = tokenize(keyword);
+    // 한 글자 검색어는 bigram 이 없으므로 색인 사용 불가
+    if (tokens.isEmpty()) {
+      return null;
+    }
+
+    lock.readLock().lock();
+    try {
+      List<Set<Long>> lists = new ArrayList<>();
+      for (String token : tokens) {
+        Set<Long> ids = postings.get(token);
+        if (ids == null) {
+          return Set.of();
+        }
+        lists.add(ids);
+      }
+
+      // 가장 짧은 목록부터 교집합
+      lists.sort(Comparator.comparingInt(Set::size));
+      Set<Long> result = new HashSet<>(lists.get(0));
+      for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+        result.retainAll(lists.get(i));
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private boolean isUsable() {
+    return ready && System.currentTimeMillis() - lastSyncMillis <= maxStalenessMs;
+  }
+
+  // 공백 기준으로 단어를 나눈 뒤, 단어마다 연속된 두 글자(bigram)를 토큰으로 사용
+  // ex) "우리 집 구리" -> [우리, 구리]
+  static Set<String> tokenize(String text) {
+    Set<String> tokens = new HashSet<>();
+    if (text == null) {
+      return tokens;
+    }
+    for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+      for (int i = 0; i + 1 < word.length(); i++) {
+        tokens.add(word.substring(i, i + 2));
+      }
+    }
+    return tokens;
+  }
+
+  private void put(Long postId, String title, String content) {
+    Set<String> tokens = tokenize(title);
+    tokens.addAll(tokenize(content));
+
+    lock.writeLock().lock();
+    try {
+      removeTokens(postId);
+      for (String token : tokens) {
+        postings.computeIfAbsent(token, t -> new HashSet<>()).add(postId);
+      }
+      documents.put(postId, tokens);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void delete(Long postId) {
+    lock.writeLock().lock();
+    try {
+      removeTokens(postId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void removeTokens(Long postId) {
+    Set<String> previous = documents.remove(postId);
+    if (previous == null) {
+      return;
+    }
+    for (String token : previous) {
+      Set<Long> ids = postings.get(token);
+      if (ids != null) {
+        ids.remove(postId);
+        if (ids.isEmpty()) {
+          postings.remove(token);
+        }
+      }
+    }
+  }
+
+  // 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영 (트랜잭션 밖이면 즉시 반영)
+  private void afterCommit(Runnable task) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          task.run();
+        }
+      });
+    } else {
+      task.run();
+    }
+  }
+}
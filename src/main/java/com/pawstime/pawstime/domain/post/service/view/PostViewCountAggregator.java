@@ -0,0 +1,135 @@
+package com.pawstime.pawstime.domain.post.service.view;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시글 조회수 write-behind 집계기
+// 상세 조회마다 post 행을 UPDATE 하지 않고 메모리에서 게시글별로 누적한 뒤,
+// 주기적으로 "views = views + ?" 배치 UPDATE 로 한 번에 반영한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountAggregator {
+
+  private static final String FLUSH_SQL = "UPDATE post SET views = views + ? WHERE post_id = ?";
+  private static final int FLUSH_BATCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 게시글 ID -> 아직 DB 에 반영되지 않은 조회수 (LongAdder 는 내부적으로 셀을 나눠 경합을 줄임)
+  private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+  // 직전 flush 에서 맵에서 제거한 LongAdder (flush 안에서만 사용)
+  // 제거 직전에 LongAdder 를 얻은 요청 스레드가 제거 후에 increment 할 수 있으므로, 다음 flush 에서 한 번 더 비워서 반영
+  private Map<Long, LongAdder> retired = new HashMap<>();
+
+  // 모니터링용 지표
+  private final AtomicLong flushedViews = new AtomicLong();
+  private final AtomicLong failedFlushes = new AtomicLong();
+  private volatile long lastFlushedAt = 0L;
+
+  // 상세 조회 시 호출 (DB 접근 없음)
+  public void increment(Long postId) {
+    pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+  }
+
+  // 일정 주기로 누적된 조회수를 DB 에 반영
+  @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}")
+  public synchronized void flush() {
+    List<Object[]> batch = new ArrayList<>();
+
+    // 직전 주기에 제거한 LongAdder 에 늦게 들어온 조회수를 다시 대기 목록에 합침
+    Map<Long, LongAdder> previous = retired;
+    retired = new HashMap<>();
+    previous.forEach((postId, adder) -> {
+      long late = adder.sumThenReset();
+      if (late > 0) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+      }
+    });
+
+    // 게시글 ID 순으로 반영하여 여러 서버가 동시에 flush 해도 행 잠금 순서가 같도록 함
+    pending.keySet().stream().sorted().forEach(postId -> {
+      LongAdder adder = pending.get(postId);
+      long delta = adder.sumThenReset();
+      if (delta > 0) {
+        batch.add(new Object[]{delta, postId});
+      } else {
+        // 이번 주기 동안 조회가 없던 게시글은 맵에서 제거 (제거와 겹친 조회는 다음 주기에 retired 에서 반영)
+        if (pending.remove(postId, adder)) {
+          retired.put(postId, adder);
+        }
+      }
+    });
+
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    long flushed = 0;
+    for (int from = 0; from < batch.size(); from += FLUSH_BATCH_SIZE) {
+      List<Object[]> chunk = batch.subList(from, Math.min(from + FLUSH_BATCH_SIZE, batch.size()));
+      try {
+        jdbcTemplate.batchUpdate(FLUSH_SQL, chunk);
+        for (Object[] row : chunk) {
+          flushed += (Long) row[0];
+        }
+      } catch (Exception e) {
+        // 반영하지 못한 조회수는 다음 주기에 다시 시도하도록 되돌려 놓음
+        failedFlushes.incrementAndGet();
+        log.error("조회수 반영 실패 ({}건), 다음 주기에 재시도: {}", chunk.size(), e.getMessage());
+        for (Object[] row : chunk) {
+          pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+        }
+      }
+    }
+
+    flushedViews.addAndGet(flushed);
+    lastFlushedAt = System.currentTimeMillis();
+    log.debug("조회수 반영: 게시글 {}건, 조회수 {}", batch.size(), flushed);
+  }
+
+  // 애플리케이션 종료 시 남은 조회수 반영 (방금 제거한 LongAdder 에 남은 조회수까지 반영하도록 두 번 실행)
+  @PreDestroy
+  public void drain() {
+    flush();
+    flush();
+    if (getPendingViews() > 0) {
+      log.warn("종료 시 반영하지 못한 조회수: {}", getPendingViews());
+    }
+  }
+
+  // 반영 대기 중인 게시글 수
+  public int getPendingPosts() {
+    return pending.size();
+  }
+
+  // 반영 대기 중인 조회수 합계
+  public synchronized long getPendingViews() {
+    return pending.values().stream().mapToLong(LongAdder::sum).sum()
+        + retired.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  // 지금까지 DB 에 반영한 조회수 합계
+  public long getFlushedViews() {
+    return flushedViews.get();
+  }
+
+  public long getFailedFlushes() {
+    return failedFlushes.get();
+  }
+
+  public long getLastFlushedAt() {
+    return lastFlushedAt;
+  }
+}
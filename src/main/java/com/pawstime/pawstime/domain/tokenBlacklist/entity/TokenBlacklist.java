@@ -3,6 +3,7 @@ package com.pawstime.pawstime.domain.tokenBlacklist.entity;
 import com.pawstime.pawstime.global.entity.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -15,7 +16,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "token_blacklist")
+// 서버 간 동기화 조회용 (created_at 이후 추가된 토큰)
+@Table(name = "token_blacklist", indexes = @Index(name = "idx_token_blacklist_created_at", columnList = "created_at"))
 public class TokenBlacklist extends BaseEntity {
 
   @Id
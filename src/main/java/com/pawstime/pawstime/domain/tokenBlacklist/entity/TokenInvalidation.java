@@ -0,0 +1,34 @@
+package com.pawstime.pawstime.domain.tokenBlacklist.entity;
+
+import com.pawstime.pawstime.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자 단위 토큰 무효화 (탈퇴, 권한 변경 등)
+// invalidatedAt 이전에 발급된 해당 사용자의 토큰은 인증하지 않는다. 사용자 행이 삭제되어도 남도록 별도 테이블에 저장.
+@Getter
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "token_invalidation")
+public class TokenInvalidation extends BaseEntity {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "invalidated_at", nullable = false)
+  private LocalDateTime invalidatedAt;
+
+  // 이 시각 이후에는 무효화 이전에 발급된 토큰이 모두 만료되므로 기록을 지워도 됨
+  @Column(name = "exp_time", nullable = false)
+  private LocalDateTime expTime;
+}
@@ -1,11 +1,27 @@
 package com.pawstime.pawstime.domain.tokenBlacklist.entity.repository;
 
 import com.pawstime.pawstime.domain.tokenBlacklist.entity.TokenBlacklist;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, String> {
 
   boolean existsByTokenId(String tokenId);
+
+  // 아직 만료되지 않은 블랙리스트 토큰 (시작 시 메모리로 적재)
+  List<TokenBlacklist> findByExpTimeAfter(LocalDateTime now);
+
+  // 커서 이후에 추가된 블랙리스트 토큰 (다른 서버에서 폐기된 토큰 동기화)
+  List<TokenBlacklist> findByCreatedAtAfter(LocalDateTime since);
+
+  // 만료된 블랙리스트 토큰 정리 (만료된 토큰은 검증 단계에서 이미 거부됨)
+  @Modifying
+  @Query("DELETE FROM TokenBlacklist t WHERE t.expTime < :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
 }
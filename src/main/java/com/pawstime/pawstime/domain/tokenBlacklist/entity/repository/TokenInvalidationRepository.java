@@ -0,0 +1,24 @@
+package com.pawstime.pawstime.domain.tokenBlacklist.entity.repository;
+
+import com.pawstime.pawstime.domain.tokenBlacklist.entity.TokenInvalidation;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TokenInvalidationRepository extends JpaRepository<TokenInvalidation, Long> {
+
+  // 아직 유효한 무효화 기록 (시작 시 메모리로 적재)
+  List<TokenInvalidation> findByExpTimeAfter(LocalDateTime now);
+
+  // 주기적 동기화 : 다른 서버에서 추가된 무효화 기록
+  List<TokenInvalidation> findByInvalidatedAtAfter(LocalDateTime since);
+
+  @Modifying
+  @Query("DELETE FROM TokenInvalidation t WHERE t.expTime < :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -3,21 +3,140 @@ package com.pawstime.pawstime.domain.tokenBlacklist.service;
 import com.pawstime.pawstime.domain.tokenBlacklist.entity.TokenBlacklist;
 import com.pawstime.pawstime.domain.tokenBlacklist.entity.repository.TokenBlacklistRepository;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+// 로그아웃/탈퇴로 폐기된 토큰 관리
+// 조회는 메모리(Bloom filter + 토큰별 만료시간 맵)에서 처리하고, DB 는 재시작 시 복구와 서버 간 동기화에 사용한다.
+// 다른 서버에서 폐기된 토큰은 주기적으로 DB 에서 읽어 반영하고, 동기화가 밀려 있으면 DB 로 확인한다.
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
 
+  private static final int MIN_BLOOM_CAPACITY = 1024;
+  private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+  // 다른 서버에서 추가된 토큰을 다시 읽을 때 겹쳐서 읽는 구간 (서버 간 시계 차이, 늦게 커밋된 트랜잭션 보정)
+  private static final long SYNC_OVERLAP_SECONDS = 60;
+
   private final TokenBlacklistRepository tokenBlacklistRepository;
 
+  // 토큰 -> 만료시간 (만료된 토큰은 주기적으로 제거)
+  private final Map<String, LocalDateTime> revokedTokens = new ConcurrentHashMap<>();
+  private volatile TokenBloomFilter bloomFilter = new TokenBloomFilter(MIN_BLOOM_CAPACITY, BLOOM_FALSE_POSITIVE_RATE);
+  private volatile int bloomCapacity = MIN_BLOOM_CAPACITY;
+
+  // 마지막 동기화 후 이 시간이 지나면 메모리 대신 DB 로 확인 (동기화 실패가 이어질 때 다른 서버의 로그아웃 누락 방지)
+  @Value("${token-blacklist.max-staleness-ms:60000}")
+  private long maxStalenessMs = 60000;
+
+  // 메모리 적재 전에는 DB 로 확인
+  private volatile boolean loaded = false;
+  private volatile LocalDateTime syncedUntil;
+  private volatile long lastSyncMillis;
+
+  // 시작 시 만료되지 않은 블랙리스트 토큰을 메모리로 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    try {
+      LocalDateTime syncFrom = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+      for (TokenBlacklist tokenBlacklist : tokenBlacklistRepository.findByExpTimeAfter(LocalDateTime.now())) {
+        revokedTokens.put(tokenBlacklist.getTokenId(), tokenBlacklist.getExpTime());
+      }
+      rebuildBloomFilter();
+      syncedUntil = syncFrom;
+      lastSyncMillis = System.currentTimeMillis();
+      loaded = true;
+      log.info("토큰 블랙리스트 적재 완료: {}건", revokedTokens.size());
+    } catch (Exception e) {
+      log.error("토큰 블랙리스트 적재 실패, DB 조회로 동작: {}", e.getMessage(), e);
+    }
+  }
+
+  // 다른 서버에서 폐기된 토큰 반영 (최대 동기화 주기만큼 늦게 반영됨)
+  @Scheduled(fixedDelayString = "${token-blacklist.sync-interval-ms:10000}")
+  public synchronized void sync() {
+    if (!loaded) {
+      load();
+      return;
+    }
+    try {
+      LocalDateTime syncFrom = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+      for (TokenBlacklist tokenBlacklist : tokenBlacklistRepository.findByCreatedAtAfter(syncedUntil)) {
+        add(tokenBlacklist.getTokenId(), tokenBlacklist.getExpTime());
+      }
+      syncedUntil = syncFrom;
+      lastSyncMillis = System.currentTimeMillis();
+    } catch (Exception e) {
+      log.error("토큰 블랙리스트 동기화 실패: {}", e.getMessage(), e);
+    }
+  }
+
   public void createTokenBlacklist(String token, LocalDateTime expTime) {
     TokenBlacklist tokenblacklist = new TokenBlacklist(token, expTime);
     tokenBlacklistRepository.save(tokenblacklist);
+
+    // 이 서버에는 즉시 반영 (다른 서버는 동기화 주기 안에 반영)
+    add(token, expTime);
   }
 
   public boolean isBlacklisted(String token) {
-    return tokenBlacklistRepository.existsByTokenId(token);
+    if (!loaded || System.currentTimeMillis() - lastSyncMillis > maxStalenessMs) {
+      return tokenBlacklistRepository.existsByTokenId(token);
+    }
+    // 대부분의 요청은 Bloom filter 에서 바로 false
+    if (!bloomFilter.mightContain(token)) {
+      return false;
+    }
+    return revokedTokens.containsKey(token);
+  }
+
+  // 만료된 토큰 정리 (만료된 토큰은 JWT 검증에서 이미 거부되므로 블랙리스트에 둘 필요 없음)
+  @Transactional
+  @Scheduled(fixedDelayString = "${token-blacklist.eviction-interval-ms:600000}")
+  public void evictExpired() {
+    LocalDateTime now = LocalDateTime.now();
+
+    synchronized (this) {
+      int before = revokedTokens.size();
+      revokedTokens.values().removeIf(expTime -> expTime == null || expTime.isBefore(now));
+      if (revokedTokens.size() != before) {
+        rebuildBloomFilter();
+      }
+    }
+
+    int deleted = tokenBlacklistRepository.deleteExpired(now);
+    if (deleted > 0) {
+      log.info("만료된 블랙리스트 토큰 정리: {}건", deleted);
+    }
+  }
+
+  public int getRevokedTokenCount() {
+    return revokedTokens.size();
+  }
+
+  private synchronized void add(String token, LocalDateTime expTime) {
+    revokedTokens.put(token, expTime);
+    bloomFilter.put(token);
+    if (revokedTokens.size() > bloomCapacity) {
+      rebuildBloomFilter();  // 용량 초과로 오탐률이 높아지기 전에 크기를 늘려 다시 생성
+    }
+  }
+
+  // 현재 토큰 수의 2배를 수용하도록 새로 만들어 교체 (추가와 동시에 실행되어 토큰이 누락되지 않도록 동기화)
+  private synchronized void rebuildBloomFilter() {
+    int capacity = Math.max(MIN_BLOOM_CAPACITY, revokedTokens.size() * 2);
+    TokenBloomFilter rebuilt = new TokenBloomFilter(capacity, BLOOM_FALSE_POSITIVE_RATE);
+    revokedTokens.keySet().forEach(rebuilt::put);
+    bloomCapacity = capacity;
+    bloomFilter = rebuilt;
   }
 }
@@ -0,0 +1,69 @@
+package com.pawstime.pawstime.domain.tokenBlacklist.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 블랙리스트 토큰용 Bloom filter
+// mightContain 이 false 면 블랙리스트에 없는 토큰이 확실하므로 맵 조회도 생략할 수 있다.
+// (삭제를 지원하지 않으므로 만료된 토큰을 정리할 때는 새로 만들어 교체)
+class TokenBloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  // expectedInsertions 개를 넣었을 때 오탐률이 falsePositiveRate 가 되도록 크기 결정
+  TokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+    long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitSize = Math.max(64, m);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+  }
+
+  void put(String token) {
+    long hash = hash64(token);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+      setBit(index);
+    }
+  }
+
+  boolean mightContain(String token) {
+    long hash = hash64(token);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void setBit(long index) {
+    int slot = (int) (index >>> 6);
+    long mask = 1L << index;
+    long current;
+    do {
+      current = bits.get(slot);
+      if ((current & mask) != 0) {
+        return;
+      }
+    } while (!bits.compareAndSet(slot, current, current | mask));
+  }
+
+  // FNV-1a 64bit 해시 후 비트를 한 번 더 섞어서 사용 (double hashing 의 두 해시값으로 상/하위 32bit 사용)
+  private static long hash64(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= (hash >>> 33);
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= (hash >>> 33);
+    return hash;
+  }
+}
@@ -9,14 +9,15 @@ import com.pawstime.pawstime.domain.user.service.read.ReadUserService;
 import com.pawstime.pawstime.global.exception.DuplicateException;
 import com.pawstime.pawstime.global.exception.NotFoundException;
 import com.pawstime.pawstime.global.exception.UnauthorizedException;
+import com.pawstime.pawstime.global.jwt.dto.JwtPrincipal;
 import com.pawstime.pawstime.global.jwt.util.JwtUtil;
 import com.pawstime.pawstime.global.security.user.CustomUserDetails;
+import com.pawstime.pawstime.global.security.user.service.CustomUserDetailsService;
 import com.pawstime.pawstime.web.api.user.dto.req.LoginUserReqDto;
 import com.pawstime.pawstime.web.api.user.dto.req.UpdateNickReqDto;
 import com.pawstime.pawstime.web.api.user.dto.req.UpdatePasswordReqDto;
 import com.pawstime.pawstime.web.api.user.dto.req.UserCreateReqDto;
 import com.pawstime.pawstime.web.api.user.dto.resp.GetUserRespDto;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
@@ -41,6 +42,7 @@ public class UserFacade {
   private final JwtUtil jwtUtil;
   private final TokenBlacklistService tokenBlacklistService;
   private final UserRepository userRepository;
+  private final CustomUserDetailsService customUserDetailsService;
 
 
   public void createUser(UserCreateReqDto req) {
@@ -87,12 +89,12 @@ public class UserFacade {
     String name = authentication.getName();
     log.info("** 로그아웃 요청한 사용자 : {} **", name);
 
-    String token = request.getHeader("Authorization").substring(7);
+    // 필터에서 검증한 토큰 정보 재사용
+    JwtPrincipal principal = jwtUtil.requirePrincipal(request);
+    String token = principal.token();
     log.info("** token : {} **", token);
 
-    Claims claims = jwtUtil.parseClaims(token);
-
-    LocalDateTime expTime = claims.getExpiration()
+    LocalDateTime expTime = principal.expiration()
         .toInstant()
         .atZone(ZoneId.systemDefault())
         .toLocalDateTime();
@@ -124,6 +126,20 @@ public class UserFacade {
 
   }
 
+  // 현재 로그인한 사용자 ID (DB 조회 없이 인증 정보에서 꺼냄)
+  public Long getCurrentUserId() {
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    if (authentication == null || !authentication.isAuthenticated()
+        || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+
+      throw new UnauthorizedException("로그인이 필요합니다.");
+    }
+
+    return userDetails.getUser().userId();
+  }
+
   public void deleteUser(Long userId, Authentication authentication, HttpServletRequest request) {
 
     //1.로그인 상태 확인
@@ -145,10 +161,12 @@ public class UserFacade {
       throw new NotFoundException("존재하지 않는 사용자입니다.");
     }
     userRepository.delete(user);
+    // 다른 기기에서 발급받은 토큰도 더 이상 인증되지 않도록 무효화
+    customUserDetailsService.invalidateUser(userId);
     //  JWT 블랙리스트에 현재 토큰 등록 (자동 로그아웃)
-    String token = request.getHeader("Authorization").substring(7);
-    Claims claims = jwtUtil.parseClaims(token);
-    LocalDateTime expTime = claims.getExpiration()
+    JwtPrincipal principal = jwtUtil.requirePrincipal(request);
+    String token = principal.token();
+    LocalDateTime expTime = principal.expiration()
             .toInstant()
             .atZone(ZoneId.systemDefault())
             .toLocalDateTime();
@@ -39,7 +39,7 @@ public class SecurityConfig {
 
   // 관리자만 접근을 허용하는 경로
   private static final String[] ADMIN_ONLY = {
-    "/comments"
+    "/comments", "/comments/scroll", "/info/refresh", "/info/import"
   };
 
   // 로그인 한 사용자(관리자 + 일반유저)만 접근을 허용하는 경로
@@ -51,7 +51,7 @@ public class SecurityConfig {
   // 모든 사용자에게 접근을 허용하는 경로
   private static final String[] PUBLIC_ALL = {
     "/users", "/users/login", "/users/{userId}", "/posts/{postId}/thumbnail",
-    "/posts/images/random", "/info/**"
+    "/posts/thumbnails", "/posts/images/random", "/info/**"
   };
 
   @Bean
@@ -72,6 +72,7 @@ public class SecurityConfig {
             .accessDeniedHandler(accessDeniedHandler))
         .authorizeHttpRequests(c -> c
             .requestMatchers(AUTH_WHITELIST).permitAll()  // 인증이 필요없는 url => 모두 허용
+            .requestMatchers(HttpMethod.GET, "/posts/{postId}/comments/scroll", "/posts/{postId}/comments/stream").permitAll()  // 댓글 커서 조회, 실시간 댓글 스트림 ("/posts/{postId}/comments/{commentId}" 보다 먼저 확인)
             .requestMatchers(ADMIN_ONLY).hasRole("ADMIN")
             .requestMatchers(ADMIN_USER_ONLY).hasAnyRole("ADMIN", "USER")
             .requestMatchers(PUBLIC_ALL).permitAll()
@@ -84,7 +85,7 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.POST, "/posts", "/posts/{postId}").hasAnyRole("ADMIN", "USER")  // 게시글 생성, 게시글 이미지 업로드(생성) => 관리자,일반유저만 접근 가능
             .requestMatchers(HttpMethod.PUT, "/posts/{postId}", "/posts/{postId}/images").hasAnyRole("ADMIN", "USER")   // 게시글 수정, 게시글 이미지 수정 => 관리자,일반유저만 접근 가능
             .requestMatchers(HttpMethod.DELETE, "/posts/{postId}").hasAnyRole("ADMIN", "USER")   // 게시글 삭제 => 관리자,일반유저만 접근 가능
-            .requestMatchers(HttpMethod.GET, "/posts", "/posts/{postId}", "/posts/{postId}/images").permitAll()  // 게시글 전체 목록 조회, 게시글 상세 조회, 게시글 이미지 조회 => 모두 접근 가능
+            .requestMatchers(HttpMethod.GET, "/posts", "/posts/scroll", "/posts/{postId}", "/posts/{postId}/images").permitAll()  // 게시글 전체 목록 조회, 게시글 상세 조회, 게시글 이미지 조회 => 모두 접근 가능
 
             .requestMatchers(HttpMethod.POST, "/posts/{postId}/comments").hasAnyRole("ADMIN", "USER")
             .requestMatchers(HttpMethod.GET, "/posts/{postId}/comments").permitAll()
@@ -18,6 +18,7 @@ public enum Status {
   NOTFOUND("Not Found", "요청한 리소스가 존재하지 않는 경우", HttpStatus.NOT_FOUND),
   UNAUTHORIZED("Unauthorized", "인증되지 않은 사용자가 접근하려는 경우", HttpStatus.UNAUTHORIZED),
   FORBIDDEN("Forbidden", "인증은 되었지만 권한이 없는 경우", HttpStatus.FORBIDDEN),
+  SERVICEUNAVAILABLE("Service Unavailable", "요청이 몰려 일시적으로 처리할 수 없는 경우", HttpStatus.SERVICE_UNAVAILABLE),
 
 
   // 에러 상태
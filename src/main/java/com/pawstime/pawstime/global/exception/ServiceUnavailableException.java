@@ -0,0 +1,15 @@
+package com.pawstime.pawstime.global.exception;
+
+import lombok.Getter;
+
+// 요청이 몰려 일시적으로 처리할 수 없는 경우 (503, Retry-After 초 후 재시도)
+@Getter
+public class ServiceUnavailableException extends CustomException {
+
+  private final long retryAfterSeconds;
+
+  public ServiceUnavailableException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -6,8 +6,11 @@ import com.pawstime.pawstime.global.enums.ResponseCode;
 import com.pawstime.pawstime.global.enums.Status;
 import com.pawstime.pawstime.global.exception.CustomException;
 import com.pawstime.pawstime.global.exception.InvalidException;
+import com.pawstime.pawstime.global.exception.ServiceUnavailableException;
 import com.pawstime.pawstime.web.api.user.dto.resp.Response;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -68,4 +71,20 @@ public class CustomExceptionHandler {
 
     return ApiResponse.generateResp(Status.INVALID, errorMessage, null);
   }
+
+  // 일시적인 과부하 : 503 과 Retry-After 헤더로 클라이언트가 잠시 후 다시 시도하도록 안내
+  // SSE(EventSource) 요청은 JSON 응답을 받을 수 없으므로 본문 없이 상태와 헤더만 보냄
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ApiResponse<String>> handleServiceUnavailableException(
+      ServiceUnavailableException ex, HttpServletRequest request) {
+    log.warn("Service unavailable: {}", ex.getMessage());
+
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    ResponseEntity.BodyBuilder builder = ResponseEntity.status(Status.SERVICEUNAVAILABLE.getHttpStatus())
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+    if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+      return builder.build();
+    }
+    return builder.body(new ApiResponse<>(Status.SERVICEUNAVAILABLE, ex.getMessage(), null));
+  }
 }
@@ -0,0 +1,22 @@
+package com.pawstime.pawstime.global.jwt.dto;
+
+import java.util.Date;
+
+// 검증이 끝난 토큰의 클레임 (요청당 한 번만 파싱하여 request attribute 에 보관)
+public record JwtPrincipal(
+    String token,
+    Long userId,
+    String role,
+    Date issuedAt,
+    Date expiration
+) {
+
+  public boolean isAdmin() {
+    return "ADMIN".equals(role);
+  }
+
+  // 작성자 본인이거나 관리자인지 확인
+  public boolean isOwnerOrAdmin(Long ownerId) {
+    return isAdmin() || (userId != null && userId.equals(ownerId));
+  }
+}
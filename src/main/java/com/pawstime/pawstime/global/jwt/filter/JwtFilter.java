@@ -2,6 +2,7 @@ package com.pawstime.pawstime.global.jwt.filter;
 
 import com.pawstime.pawstime.domain.tokenBlacklist.service.TokenBlacklistService;
 import com.pawstime.pawstime.global.exception.UnauthorizedException;
+import com.pawstime.pawstime.global.jwt.dto.JwtPrincipal;
 import com.pawstime.pawstime.global.jwt.util.JwtUtil;
 import com.pawstime.pawstime.global.security.user.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
@@ -36,14 +37,13 @@ public class JwtFilter extends OncePerRequestFilter {
         throw new UnauthorizedException("로그아웃 처리된 토큰입니다. 다시 로그인해주세요");
       }
 
-      if (jwtUtil.validateToken(token)) {
-        // String userId = jwtUtil.getUserId(token);
-        Long userId = jwtUtil.getUserId(token);
-
-        System.out.println("*****"+userId);
+      // 토큰 검증은 요청당 한 번만 수행 (이후 facade 에서는 request 에 보관된 결과를 사용)
+      JwtPrincipal principal = jwtUtil.getPrincipal(request);
 
+      if (principal != null) {
         // UserDetails userDetails = customUserDetailsService.loadUserByUsername(userId);
-        UserDetails userDetails = customUserDetailsService.loadUserByUserId(userId);
+        // 사용자 조회 없이 토큰의 userId, role 로 인증 정보 생성
+        UserDetails userDetails = customUserDetailsService.loadUserByClaims(principal);
 
         if (userDetails != null) {
           UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
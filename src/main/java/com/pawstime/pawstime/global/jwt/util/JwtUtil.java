@@ -1,8 +1,11 @@
 package com.pawstime.pawstime.global.jwt.util;
 
 import com.pawstime.pawstime.domain.user.service.dto.CustomUserInfoDto;
+import com.pawstime.pawstime.global.exception.UnauthorizedException;
+import com.pawstime.pawstime.global.jwt.dto.JwtPrincipal;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -22,8 +25,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtUtil {
 
+  // 검증된 클레임을 보관하는 request attribute 이름
+  private static final String PRINCIPAL_ATTRIBUTE = JwtPrincipal.class.getName();
+  // 토큰이 없거나 유효하지 않은 요청도 다시 파싱하지 않도록 표시
+  private static final Object NO_PRINCIPAL = new Object();
+
   private final Key key;
   private final long accessTokenExpTime;
+  // JwtParser 는 불변 객체라 여러 스레드에서 공유해도 안전함
+  private final JwtParser jwtParser;
 
   public JwtUtil(
       @Value("${spring.jwt.secret.key}") String secretKey,
@@ -32,6 +42,7 @@ public class JwtUtil {
     byte[] decodeKey = Decoders.BASE64.decode(secretKey);
     this.key = Keys.hmacShaKeyFor(decodeKey);
     this.accessTokenExpTime = accessTokenExpTime;
+    this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
   }
 
   public String createAccessToken(CustomUserInfoDto user) {
@@ -67,56 +78,82 @@ public class JwtUtil {
   }
 
   public boolean validateToken(String token) {
-    try {
-      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-      return true;
-    } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-      log.info("Invalid JWT Token", e);
-    } catch (ExpiredJwtException e) {
-      log.info("Expired JWT Token", e);
-    } catch (UnsupportedJwtException e) {
-      log.info("Unsupported JWT Token", e);
-    } catch (IllegalArgumentException e) {
-      log.info("JWT claims string is empty", e);
-    }
-    return false;
+    return verify(token) != null;
   }
 
   public Claims parseClaims(String accessToken) {
     try {
-      return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+      return jwtParser.parseClaimsJws(accessToken).getBody();
     } catch (ExpiredJwtException e) {
       return e.getClaims();
     }
   }
 
-  // 헤더에 담긴 토큰을 이용해서 로그인한 사용자의 userId를 가져옴
-  public Long getUserIdFromToken(HttpServletRequest request) {
-    String authorization = request.getHeader("Authorization");
-    String token = null;
+  // 요청의 토큰을 한 번만 검증하고, 이후 호출은 request attribute 에 보관된 결과를 재사용
+  // 토큰이 없거나 유효하지 않으면 null
+  public JwtPrincipal getPrincipal(HttpServletRequest request) {
+    Object cached = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+    if (cached != null) {
+      return cached == NO_PRINCIPAL ? null : (JwtPrincipal) cached;
+    }
 
-    if (authorization != null && authorization.startsWith("Bearer ")) {
-      token = authorization.substring(7);
+    String token = resolveToken(request);
+    JwtPrincipal principal = null;
+
+    if (token != null) {
+      Claims claims = verify(token);
+      if (claims != null) {
+        principal = new JwtPrincipal(token, claims.get("userId", Long.class), claims.get("role", String.class),
+            claims.getIssuedAt(), claims.getExpiration());
+      }
     }
 
-    if (token != null && validateToken(token)) {
-      return getUserId(token);
+    request.setAttribute(PRINCIPAL_ATTRIBUTE, principal != null ? principal : NO_PRINCIPAL);
+    return principal;
+  }
+
+  // 로그인이 필요한 요청에서 사용
+  public JwtPrincipal requirePrincipal(HttpServletRequest request) {
+    JwtPrincipal principal = getPrincipal(request);
+    if (principal == null) {
+      throw new UnauthorizedException("로그인해주세요.");
     }
+    return principal;
+  }
 
-    return null;
+  // 헤더에 담긴 토큰을 이용해서 로그인한 사용자의 userId를 가져옴
+  public Long getUserIdFromToken(HttpServletRequest request) {
+    JwtPrincipal principal = getPrincipal(request);
+    return principal != null ? principal.userId() : null;
   }
 
   // 헤더에 담긴 토큰을 이용해서 로그인한 사용자의 role을 가져옴
   public String getUserRoleFromToken(HttpServletRequest request) {
+    JwtPrincipal principal = getPrincipal(request);
+    return principal != null ? principal.role() : null;
+  }
+
+  private String resolveToken(HttpServletRequest request) {
     String authorization = request.getHeader("Authorization");
-    String token = null;
 
     if (authorization != null && authorization.startsWith("Bearer ")) {
-      token = authorization.substring(7);
+      return authorization.substring(7);
     }
+    return null;
+  }
 
-    if (token != null && validateToken(token)) {
-      return parseClaims(token).get("role", String.class);
+  // 서명/만료 검증 후 클레임 반환 (유효하지 않으면 null)
+  private Claims verify(String token) {
+    try {
+      return jwtParser.parseClaimsJws(token).getBody();
+    } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+      log.info("Invalid JWT Token", e);
+    } catch (ExpiredJwtException e) {
+      log.info("Expired JWT Token", e);
+    } catch (UnsupportedJwtException e) {
+      log.info("Unsupported JWT Token", e);
+    } catch (IllegalArgumentException e) {
+      log.info("JWT claims string is empty", e);
     }
     return null;
   }
@@ -34,7 +34,8 @@ public class CustomUserDetails implements UserDetails {
 
   @Override
   public String getUsername() {
-    return user.email();
+    // 토큰 클레임으로 만든 인증 정보에는 이메일이 없으므로 userId 사용
+    return user.email() != null ? user.email() : String.valueOf(user.userId());
   }
 
   @Override
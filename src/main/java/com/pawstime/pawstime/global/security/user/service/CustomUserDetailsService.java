@@ -1,23 +1,50 @@
 package com.pawstime.pawstime.global.security.user.service;
 
-import com.pawstime.pawstime.domain.user.entity.User;
-import com.pawstime.pawstime.domain.user.entity.repository.UserRepository;
+import com.pawstime.pawstime.domain.tokenBlacklist.entity.TokenInvalidation;
+import com.pawstime.pawstime.domain.tokenBlacklist.entity.repository.TokenInvalidationRepository;
+import com.pawstime.pawstime.domain.user.enums.Role;
 import com.pawstime.pawstime.domain.user.service.dto.CustomUserInfoDto;
-import com.pawstime.pawstime.global.exception.NotFoundException;
+import com.pawstime.pawstime.global.jwt.dto.JwtPrincipal;
 import com.pawstime.pawstime.global.security.user.CustomUserDetails;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-  private final UserRepository userRepository;
+  // 다른 서버에서 기록된 무효화를 다시 읽을 때 겹쳐서 읽는 구간 (서버 간 시계 차이 보정)
+  private static final long SYNC_OVERLAP_SECONDS = 60;
+
+  private final TokenInvalidationRepository tokenInvalidationRepository;
+
+  @Value("${spring.jwt.expiration_time}")
+  private long accessTokenExpTime;
+
+  // userId -> 무효화 시각 (이 시각 이전에 발급된 토큰은 인증하지 않음)
+  // DB(token_invalidation)에 저장된 기록을 적재/주기적으로 동기화한 사본이므로 재시작 후나 다른 서버에서도 유지됨
+  private final Map<Long, Instant> invalidatedUsers = new ConcurrentHashMap<>();
+
+  // 메모리 적재 전에는 DB 로 확인
+  private volatile boolean loaded = false;
+  private volatile LocalDateTime syncedUntil;
 
   @Override
   public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -29,9 +56,106 @@ public class CustomUserDetailsService implements UserDetailsService {
   }
   // 토큰에 들어있는 이메일을 기반으로 user를 찾는 방식에서 userid를 기반으로 찾는 방식으로 바꿈
 
-  public UserDetails loadUserByUserId(Long userId) throws UsernameNotFoundException {
-    User user = userRepository.findUserByUserIdQuery(userId);
-    CustomUserInfoDto customUserInfoDto = CustomUserInfoDto.of(user);
+  // 시작 시 아직 유효한 무효화 기록을 메모리로 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    try {
+      LocalDateTime syncFrom = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+      tokenInvalidationRepository.findByExpTimeAfter(LocalDateTime.now()).forEach(this::apply);
+      syncedUntil = syncFrom;
+      loaded = true;
+      log.info("토큰 무효화 기록 적재 완료: {}건", invalidatedUsers.size());
+    } catch (Exception e) {
+      log.error("토큰 무효화 기록 적재 실패, DB 조회로 동작: {}", e.getMessage(), e);
+    }
+  }
+
+  // 다른 서버에서 기록된 무효화 반영 (최대 동기화 주기만큼 늦게 반영됨)
+  @Scheduled(fixedDelayString = "${token-invalidation.sync-interval-ms:10000}")
+  public synchronized void sync() {
+    if (!loaded) {
+      load();
+      return;
+    }
+    try {
+      LocalDateTime syncFrom = LocalDateTime.now().minusSeconds(SYNC_OVERLAP_SECONDS);
+      tokenInvalidationRepository.findByInvalidatedAtAfter(syncedUntil).forEach(this::apply);
+      syncedUntil = syncFrom;
+    } catch (Exception e) {
+      log.error("토큰 무효화 기록 동기화 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  // 검증된 토큰의 클레임(userId, role)만으로 인증 정보 생성 (DB 조회 없음)
+  // 탈퇴 등으로 무효화된 사용자의 기존 토큰이면 null
+  public UserDetails loadUserByClaims(JwtPrincipal principal) {
+    if (principal.userId() == null || principal.role() == null) {
+      return null;
+    }
+
+    Instant invalidatedAt = invalidatedAt(principal.userId());
+    if (invalidatedAt != null
+        && (principal.issuedAt() == null || !principal.issuedAt().toInstant().isAfter(invalidatedAt))) {
+      return null;
+    }
+
+    Role role;
+    try {
+      role = Role.valueOf(principal.role());
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+
+    CustomUserInfoDto customUserInfoDto = CustomUserInfoDto.builder()
+        .userId(principal.userId())
+        .role(role)
+        .build();
     return new CustomUserDetails(customUserInfoDto);
   }
+
+  // 탈퇴, 권한 변경 시 호출 : 지금까지 발급된 해당 사용자의 토큰을 더 이상 인증하지 않음
+  // DB 에 기록하여 재시작 후와 다른 서버에서도 적용
+  @Transactional
+  public void invalidateUser(Long userId) {
+    LocalDateTime now = LocalDateTime.now();
+    TokenInvalidation tokenInvalidation = TokenInvalidation.builder()
+        .userId(userId)
+        .invalidatedAt(now)
+        .expTime(now.plus(Duration.ofMillis(accessTokenExpTime)))
+        .build();
+    tokenInvalidationRepository.save(tokenInvalidation);
+    apply(tokenInvalidation);
+  }
+
+  // 토큰 만료시간이 지난 무효화 기록은 더 이상 필요 없으므로 정리
+  @Transactional
+  @Scheduled(fixedDelayString = "${token-blacklist.eviction-interval-ms:600000}")
+  public void evictInvalidatedUsers() {
+    Instant threshold = Instant.now().minusMillis(accessTokenExpTime);
+    invalidatedUsers.values().removeIf(invalidatedAt -> invalidatedAt.isBefore(threshold));
+
+    int deleted = tokenInvalidationRepository.deleteExpired(LocalDateTime.now());
+    if (deleted > 0) {
+      log.info("만료된 토큰 무효화 기록 정리: {}건", deleted);
+    }
+  }
+
+  private Instant invalidatedAt(Long userId) {
+    if (!loaded) {
+      return tokenInvalidationRepository.findById(userId)
+          .map(tokenInvalidation -> toInstant(tokenInvalidation.getInvalidatedAt()))
+          .orElse(null);
+    }
+    return invalidatedUsers.get(userId);
+  }
+
+  // 같은 사용자의 기록이 여러 번 들어와도 가장 늦은 무효화 시각을 유지
+  private void apply(TokenInvalidation tokenInvalidation) {
+    invalidatedUsers.merge(tokenInvalidation.getUserId(), toInstant(tokenInvalidation.getInvalidatedAt()),
+        (previous, current) -> current.isAfter(previous) ? current : previous);
+  }
+
+  private Instant toInstant(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+  }
 }
@@ -1,10 +1,9 @@
 package com.pawstime.pawstime;
 
+import com.pawstime.pawstime.support.IntegrationTestSupport;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class PawstimeApplicationTests {
+class PawstimeApplicationTests extends IntegrationTestSupport {
 
 	@Test
 	void contextLoads() {
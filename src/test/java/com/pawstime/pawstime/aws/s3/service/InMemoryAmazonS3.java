@@ -0,0 +1,80 @@
+package com.pawstime.pawstime.aws.s3.service;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 테스트/벤치마크용 메모리 S3 (S3Service 가 사용하는 putObject, getUrl, doesObjectExist, deleteObject 만 구현)
+// latencyMs 만큼 대기하여 S3 왕복 지연을 흉내냄
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+  private final long latencyMs;
+  private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+  public InMemoryAmazonS3(long latencyMs) {
+    this.latencyMs = latencyMs;
+  }
+
+  @Override
+  public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+    try (InputStream inputStream = putObjectRequest.getInputStream()) {
+      objects.put(key(putObjectRequest.getBucketName(), putObjectRequest.getKey()), inputStream.readAllBytes());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    simulateLatency();
+    return new PutObjectResult();
+  }
+
+  @Override
+  public URL getUrl(String bucketName, String key) {
+    try {
+      return new URL("https://" + bucketName + ".s3.amazonaws.com/" + key);
+    } catch (MalformedURLException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  @Override
+  public boolean doesObjectExist(String bucketName, String objectName) {
+    return objects.containsKey(key(bucketName, objectName));
+  }
+
+  @Override
+  public void deleteObject(DeleteObjectRequest deleteObjectRequest) {
+    objects.remove(key(deleteObjectRequest.getBucketName(), deleteObjectRequest.getKey()));
+    simulateLatency();
+  }
+
+  public int size() {
+    return objects.size();
+  }
+
+  public void clear() {
+    objects.clear();
+  }
+
+  private void simulateLatency() {
+    if (latencyMs <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.MILLISECONDS.sleep(latencyMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private String key(String bucketName, String key) {
+    return bucketName + "/" + key;
+  }
+}
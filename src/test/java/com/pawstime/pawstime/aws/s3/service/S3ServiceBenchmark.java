@@ -0,0 +1,112 @@
+package com.pawstime.pawstime.aws.s3.service;
+
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.pawstime.pawstime.aws.s3.config.S3Config;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+// 게시글 이미지 여러 장을 업로드하는 요청 하나의 처리 시간 (S3 는 지연을 흉내낸 메모리 스텁)
+// sequentialUpload : 변경 전과 같이 요청 스레드에서 한 장씩 putObject
+// pooledUpload : S3Service.uploadFile (S3Config 의 업로드 전용 스레드 풀로 병렬 업로드)
+// 동시 요청 4개로 측정하여 스레드 풀 크기/대기열이 포화될 때의 동작도 확인
+// 실행 : ./gradlew jmh -Pjmh.includes=S3ServiceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class S3ServiceBenchmark {
+
+  private static final String BUCKET = "benchmark-bucket";
+
+  @Param({"1", "5", "10"})
+  public int fileCount;
+
+  @Param({"20"})
+  public long latencyMs;
+
+  @Param({"8"})
+  public int uploadThreads;
+
+  private InMemoryAmazonS3 amazonS3;
+  private ExecutorService s3UploadExecutor;
+  private S3Service s3Service;
+  private List<MultipartFile> files;
+
+  @Setup
+  public void setUp() {
+    amazonS3 = new InMemoryAmazonS3(latencyMs);
+
+    S3Config s3Config = new S3Config();
+    ReflectionTestUtils.setField(s3Config, "uploadThreads", uploadThreads);
+    s3UploadExecutor = s3Config.s3UploadExecutor();
+
+    s3Service = new S3Service(amazonS3, s3UploadExecutor);
+    ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+    ReflectionTestUtils.setField(s3Service, "uploadTimeoutMs", 30000);
+
+    byte[] content = new byte[200 * 1024];
+    files = new ArrayList<>();
+    for (int i = 0; i < fileCount; i++) {
+      files.add(new MockMultipartFile("files", "image" + i + ".jpg", "image/jpeg", content));
+    }
+  }
+
+  // 업로드된 객체가 계속 쌓이지 않도록 반복마다 비움
+  @Setup(Level.Iteration)
+  public void clearBucket() {
+    amazonS3.clear();
+  }
+
+  @TearDown
+  public void tearDown() {
+    s3UploadExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public void sequentialUpload(Blackhole blackhole) throws IOException {
+    for (MultipartFile file : files) {
+      String fileName = UUID.randomUUID() + ".jpg";
+      ObjectMetadata objectMetadata = new ObjectMetadata();
+      objectMetadata.setContentLength(file.getSize());
+      objectMetadata.setContentType(file.getContentType());
+      try (InputStream inputStream = file.getInputStream()) {
+        amazonS3.putObject(new PutObjectRequest(BUCKET, fileName, inputStream, objectMetadata)
+            .withCannedAcl(CannedAccessControlList.PublicRead));
+      }
+      blackhole.consume(amazonS3.getUrl(BUCKET, fileName).toString());
+    }
+  }
+
+  @Benchmark
+  public void pooledUpload(Blackhole blackhole) {
+    blackhole.consume(s3Service.uploadFile(files));
+  }
+}
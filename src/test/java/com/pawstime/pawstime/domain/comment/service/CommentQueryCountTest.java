@@ -0,0 +1,99 @@
+package com.pawstime.pawstime.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pawstime.pawstime.domain.comment.dto.resp.GetCommentRespDto;
+import com.pawstime.pawstime.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+// 댓글 목록(COMMENT_ROW 프로젝션)이 페이지 크기와 관계없이 조회 1번 + COUNT 1번으로 끝나는지 확인
+// 게시글/게시판/작성자 엔티티를 로딩하면(N+1) 쿼리 수와 엔티티 로딩 수가 늘어난다.
+class CommentQueryCountTest extends IntegrationTestSupport {
+
+  private static final int COMMENT_COUNT = 120;
+
+  @Autowired
+  private ReadCommentService readCommentService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Long postId;
+  private Long userId;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    postId = createPost(createBoard(), createUser());
+    userId = createUser();
+
+    // 작성자가 여러 명이어야 작성자 로딩으로 인한 N+1 이 드러남
+    List<Long> writers = new ArrayList<>(List.of(userId));
+    for (int i = 0; i < 9; i++) {
+      writers.add(createUser());
+    }
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < COMMENT_COUNT; i++) {
+      rows.add(new Object[]{"댓글 " + i, postId, writers.get(i % writers.size())});
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO comment (content, post_id, user_id, is_delete, created_at, updated_at) "
+        + "VALUES (?, ?, ?, false, NOW(6), NOW(6))", rows);
+  }
+
+  @Test
+  void commentsByPostUseOneSelectAndOneCountPerPage() {
+    // 마지막 페이지가 아니고 꽉 찬 페이지는 COUNT 를 생략하지 않음
+    for (int pageSize : new int[]{5, 20, 50}) {
+      PageRequest pageable = PageRequest.of(1, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+      Page<GetCommentRespDto> page = countQueries(() -> readCommentService.getCommentByPost(postId, pageable));
+
+      assertThat(page.getContent()).hasSize(pageSize);
+      assertThat(page.getTotalElements()).isEqualTo(COMMENT_COUNT);
+      assertSelectAndCountOnly();
+    }
+  }
+
+  @Test
+  void commentsByUserUseOneSelectAndOneCountPerPage() {
+    PageRequest pageable = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    Page<GetCommentRespDto> page = countQueries(() -> readCommentService.findByUser(pageable, userId));
+
+    assertThat(page.getContent()).hasSize(5).allMatch(comment -> userId.equals(comment.userId()));
+    assertSelectAndCountOnly();
+  }
+
+  @Test
+  void allCommentsUseOneSelectAndOneCountPerPage() {
+    PageRequest pageable = PageRequest.of(1, 50, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    Page<GetCommentRespDto> page = countQueries(() -> readCommentService.getCommentAll(pageable));
+
+    assertThat(page.getContent()).hasSize(50);
+    assertSelectAndCountOnly();
+  }
+
+  private <T> T countQueries(Supplier<T> query) {
+    statistics.clear();
+    return query.get();
+  }
+
+  private void assertSelectAndCountOnly() {
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+}
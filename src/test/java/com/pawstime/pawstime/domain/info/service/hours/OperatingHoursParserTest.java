@@ -0,0 +1,103 @@
+package com.pawstime.pawstime.domain.info.service.hours;
+
+import static com.pawstime.pawstime.domain.info.service.hours.OperatingHoursParser.UNKNOWN;
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static java.time.DayOfWeek.THURSDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+// 보호소 운영정보 공공데이터에 실제로 들어 있는 형식의 휴무일/시간 문자열
+class OperatingHoursParserTest {
+
+  @Test
+  void weeklyDayWithDatesAndHolidays() {
+    // "1일" 의 '일', "1월" 의 '월' 을 요일로 읽지 않음
+    assertThat(OperatingHoursParser.parseClosedDays("매주 월요일, 1월 1일, 설·추석")).isEqualTo(days(MONDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("월요일 및 공휴일")).isEqualTo(days(MONDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("일요일, 공휴일")).isEqualTo(days(SUNDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("화요일(공휴일인 경우 다음날)")).isEqualTo(days(TUESDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("휴무일 월요일")).isEqualTo(days(MONDAY));
+  }
+
+  @Test
+  void dayRanges() {
+    assertThat(OperatingHoursParser.parseClosedDays("월~금"))
+        .isEqualTo(days(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("월요일~금요일"))
+        .isEqualTo(days(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("토-월")).isEqualTo(days(SATURDAY, SUNDAY, MONDAY));
+  }
+
+  @Test
+  void multipleDays() {
+    assertThat(OperatingHoursParser.parseClosedDays("토,일")).isEqualTo(days(SATURDAY, SUNDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("토·일요일")).isEqualTo(days(SATURDAY, SUNDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("토요일과 일요일")).isEqualTo(days(SATURDAY, SUNDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("토요일, 일요일 및 법정공휴일")).isEqualTo(days(SATURDAY, SUNDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("주말 및 공휴일")).isEqualTo(days(SATURDAY, SUNDAY));
+    assertThat(OperatingHoursParser.parseClosedDays("평일"))
+        .isEqualTo(days(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+  }
+
+  @Test
+  void notClosedEveryWeek() {
+    assertThat(OperatingHoursParser.parseClosedDays("연중무휴")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("공휴일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("1월 1일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("매월 15일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("설날, 추석 당일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("매월 둘째 주 월요일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("매월 둘째,넷째 월요일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("마지막 주 일요일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays("격주 화요일")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays(" ")).isZero();
+    assertThat(OperatingHoursParser.parseClosedDays(null)).isZero();
+  }
+
+  @Test
+  void weeklyDayWithMonthlyClosure() {
+    assertThat(OperatingHoursParser.parseClosedDays("매주 일요일, 매월 셋째 주 월요일")).isEqualTo(days(SUNDAY));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "09:00, 540",
+      "0900, 540",
+      "9:00, 540",
+      "09시, 540",
+      "18:30, 1110",
+      "24:00, 1440",
+      "24:30, -1",
+      "25:00, -1",
+      "'', -1",
+      "미정, -1"
+  })
+  void parseMinute(String value, int expected) {
+    assertThat(OperatingHoursParser.parseMinute(value)).isEqualTo(expected);
+  }
+
+  @Test
+  void intervalPastMidnightEndsNextDay() {
+    assertThat(OperatingHoursParser.parseInterval("22:00", "02:00")).containsExactly(1320, 1560);
+    assertThat(OperatingHoursParser.parseInterval("09:00", "09:00")).isNull();
+    assertThat(OperatingHoursParser.parseInterval("09:00", null)).isNull();
+    assertThat(OperatingHoursParser.parseMinute(null)).isEqualTo(UNKNOWN);
+  }
+
+  private static int days(DayOfWeek... days) {
+    int mask = 0;
+    for (DayOfWeek day : days) {
+      mask |= OperatingHoursParser.bitOf(day);
+    }
+    return mask;
+  }
+}
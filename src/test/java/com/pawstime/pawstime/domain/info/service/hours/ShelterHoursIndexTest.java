@@ -0,0 +1,114 @@
+package com.pawstime.pawstime.domain.info.service.hours;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pawstime.pawstime.domain.info.dto.resp.GetHospitalInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetOpenShelterRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterInfoRespDto;
+import com.pawstime.pawstime.domain.info.dto.resp.GetShelterOperationInfoRespDto;
+import com.pawstime.pawstime.domain.info.service.hours.ShelterHoursIndex.HoursType;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoSnapshot;
+import com.pawstime.pawstime.domain.info.service.snapshot.InfoTable;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShelterHoursIndexTest {
+
+  // 2024-06-03 은 월요일
+  private static final LocalDateTime MONDAY_10 = LocalDateTime.of(2024, 6, 3, 10, 0);
+  private static final LocalDateTime TUESDAY_01 = LocalDateTime.of(2024, 6, 4, 1, 0);
+  private static final LocalDateTime SATURDAY_11 = LocalDateTime.of(2024, 6, 8, 11, 0);
+
+  private final ShelterHoursIndex shelterHoursIndex = new ShelterHoursIndex();
+  private final Map<GetShelterInfoRespDto, GetShelterOperationInfoRespDto> shelters = new HashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    shelters.clear();
+  }
+
+  @Test
+  void blankWeekendHoursAreNotOpenOnWeekends() {
+    add(1L, operation("09:00", "18:00", null, null, null));
+    rebuild();
+
+    assertThat(openShelterIds(MONDAY_10)).containsExactly(1L);
+    assertThat(openShelterIds(SATURDAY_11)).isEmpty();
+  }
+
+  @Test
+  void weekendHoursAreUsedOnWeekends() {
+    add(1L, operation("09:00", "18:00", "10:00", "16:00", null));
+    rebuild();
+
+    List<GetOpenShelterRespDto> open = shelterHoursIndex.openAt(null, SATURDAY_11, HoursType.OPERATION);
+    assertThat(open).hasSize(1);
+    assertThat(open.get(0).openTime()).isEqualTo("10:00");
+    assertThat(open.get(0).closeTime()).isEqualTo("16:00");
+  }
+
+  @Test
+  void closedDayIsNotOpen() {
+    add(1L, operation("09:00", "18:00", null, null, "매주 월요일, 1월 1일"));
+    add(2L, operation("09:00", "18:00", null, null, "일요일"));
+    rebuild();
+
+    assertThat(openShelterIds(MONDAY_10)).containsExactly(2L);
+  }
+
+  @Test
+  void hoursPastMidnightContinueNextDay() {
+    add(1L, operation("22:00", "02:00", null, null, null));
+    rebuild();
+
+    List<GetOpenShelterRespDto> open = shelterHoursIndex.openAt(null, TUESDAY_01, HoursType.OPERATION);
+    assertThat(open).hasSize(1);
+    assertThat(open.get(0).openTime()).isEqualTo("22:00");
+    assertThat(open.get(0).closeTime()).isEqualTo("02:00");
+  }
+
+  private List<Long> openShelterIds(LocalDateTime at) {
+    return shelterHoursIndex.openAt(null, at, HoursType.OPERATION).stream()
+        .map(open -> open.shelter().shelterId())
+        .toList();
+  }
+
+  private void add(Long shelterId, GetShelterOperationInfoRespDto operation) {
+    shelters.put(GetShelterInfoRespDto.builder().shelterId(shelterId).name("보호소" + shelterId).addNum(1).build(),
+        operation);
+  }
+
+  private void rebuild() {
+    List<GetShelterInfoRespDto> rows = List.copyOf(shelters.keySet());
+    Map<Long, GetShelterInfoRespDto> byId = new HashMap<>();
+    Map<Long, GetShelterOperationInfoRespDto> operations = new HashMap<>();
+    shelters.forEach((shelter, operation) -> {
+      byId.put(shelter.shelterId(), shelter);
+      operations.put(shelter.shelterId(), operation);
+    });
+
+    InfoSnapshot snapshot = new InfoSnapshot(
+        new InfoTable<GetHospitalInfoRespDto>(List.of(), GetHospitalInfoRespDto::addNum,
+            Map.of("name", Comparator.comparing(GetHospitalInfoRespDto::name))),
+        new InfoTable<>(rows, GetShelterInfoRespDto::addNum,
+            Map.of("name", Comparator.comparing(GetShelterInfoRespDto::name))),
+        byId, operations, LocalDateTime.now());
+    shelterHoursIndex.rebuild(snapshot);
+  }
+
+  private static GetShelterOperationInfoRespDto operation(String weekStart, String weekEnd,
+      String weekendStart, String weekendEnd, String closeDay) {
+    return GetShelterOperationInfoRespDto.builder()
+        .weekOprStime(weekStart)
+        .weekOprEtime(weekEnd)
+        .weekendStime(weekendStart)
+        .weekendEtime(weekendEnd)
+        .closeDay(closeDay)
+        .build();
+  }
+}
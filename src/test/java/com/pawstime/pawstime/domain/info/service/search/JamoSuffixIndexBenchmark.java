@@ -0,0 +1,76 @@
+package com.pawstime.pawstime.domain.info.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 이름 자동완성 한 번의 비용 (InfoNameIndex.search 가 사용하는 JamoSuffixIndex.search)
+// bruteForce : 모든 이름의 모든 글자 위치를 자모 분해해 비교한 뒤 정렬
+// suffixIndex : 접미사 배열 이진 탐색 + 크기 limit 의 힙
+// 검색어는 일치 항목이 적은 것("행복동물병")부터 대부분의 이름과 일치하는 것("ㅂ", "병") 까지 포함
+// 결과가 같은지는 JamoSuffixIndexTest 에서 확인
+// 실행 : ./gradlew jmh -Pjmh.includes=JamoSuffixIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JamoSuffixIndexBenchmark {
+
+  private static final String[] PREFIXES = {"행복", "사랑", "서울", "강남", "24시", "우리", "해피", "튼튼", "바른", "하나"};
+  private static final String[] MIDDLES = {"", "동물", "펫", "종합", "메디컬", "고양이"};
+  private static final String[] SUFFIXES = {"병원", "의료센터", "보호소", "클리닉", "메디컬센터"};
+
+  // 전국 동물병원 + 보호소 수 규모와 그 10배
+  @Param({"6000", "60000"})
+  public int size;
+
+  @Param({"행복동물병", "동물병", "ㄷㅁ", "병"})
+  public String query;
+
+  @Param({"10"})
+  public int limit;
+
+  private List<String> names;
+  private JamoSuffixIndex index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    names = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      names.add(PREFIXES[random.nextInt(PREFIXES.length)] + MIDDLES[random.nextInt(MIDDLES.length)]
+          + SUFFIXES[random.nextInt(SUFFIXES.length)] + (random.nextInt(3) == 0 ? " " + (i % 100) + "호점" : ""));
+    }
+    index = new JamoSuffixIndex(names);
+  }
+
+  @Benchmark
+  public int[] bruteForce() {
+    return JamoSuffixIndexTest.bruteForce(names, query, limit);
+  }
+
+  @Benchmark
+  public int[] suffixIndex() {
+    return index.search(query, limit);
+  }
+
+  // 스냅샷 교체 시 인덱스 재생성 비용
+  @Benchmark
+  public JamoSuffixIndex build() {
+    return new JamoSuffixIndex(names);
+  }
+}
@@ -0,0 +1,122 @@
+package com.pawstime.pawstime.domain.info.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// 접미사 배열 검색 결과가 모든 이름을 훑어 정렬한 결과와 같은지, 입력 중인 글자와 초성 입력을 찾는지 확인
+class JamoSuffixIndexTest {
+
+  private static final List<String> NAMES = List.of(
+      "행복동물병원",     // 0
+      "동물병원",         // 1
+      "서울 동물 병원",   // 2
+      "24시 동물메디컬센터", // 3
+      "강남동물보호소",   // 4
+      "동물사랑병원",     // 5
+      "다모아 펫");       // 6
+
+  private final JamoSuffixIndex index = new JamoSuffixIndex(NAMES);
+
+  @Test
+  void findsMatchesThatStartInTheMiddleOfTheName() {
+    // 처음부터 일치하는 이름이 먼저, 그다음 짧은 이름(공백 제외), 그다음 항목 번호
+    assertThat(index.search("동물병", 10)).containsExactly(1, 0, 2);
+  }
+
+  @Test
+  void findsHalfTypedSyllables() {
+    // 받침을 아직 입력하지 않은 글자 ("병" 입력 중 "벼")
+    assertThat(index.search("동물벼", 10)).containsExactly(1, 0, 2);
+    // 다음 글자의 초성까지 입력한 상태 ("병원" 입력 중 "병ㅇ")
+    assertThat(index.search("동물병ㅇ", 10)).containsExactly(1, 0, 2);
+    // "물" 의 받침 입력 전 ("동무")
+    assertThat(index.search("동무", 10)).containsExactly(1, 5, 0, 2, 4, 3);
+    // 겹모음을 나눠 입력하는 중 ("원" 입력 중 "우")
+    assertThat(index.search("병우", 10)).containsExactly(1, 0, 2, 5);
+  }
+
+  @Test
+  void consonantOnlyQueryMatchesChoseong() {
+    assertThat(index.search("ㄷㅁ", 10)).containsExactly(1, 6, 5, 0, 2, 4, 3);
+    assertThat(index.search("ㄷㅁㅂ", 10)).containsExactly(1, 0, 2, 4);
+  }
+
+  @Test
+  void ignoresWhitespaceAndCase() {
+    assertThat(index.search("동물 병원", 10)).containsExactly(1, 0, 2);
+    assertThat(index.search("24시", 10)).containsExactly(3);
+  }
+
+  @Test
+  void returnsAtMostLimitEntries() {
+    assertThat(index.search("동물", 2)).containsExactly(1, 5);
+    assertThat(index.search("동물", 0)).isEmpty();
+    assertThat(index.search("고양이", 10)).isEmpty();
+    assertThat(index.search(" ", 10)).isEmpty();
+  }
+
+  @Test
+  void searchMatchesBruteForceScan() {
+    Random random = new Random(42);
+    String syllables = "동물병원행복사랑강남서울보호소펫가나";
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      StringBuilder name = new StringBuilder();
+      int length = 2 + random.nextInt(6);
+      for (int j = 0; j < length; j++) {
+        name.append(syllables.charAt(random.nextInt(syllables.length())));
+      }
+      names.add(name.toString());
+    }
+    JamoSuffixIndex index = new JamoSuffixIndex(names);
+
+    for (int q = 0; q < 500; q++) {
+      String name = names.get(random.nextInt(names.size()));
+      int start = random.nextInt(name.length());
+      String query = name.substring(start, start + 1 + random.nextInt(name.length() - start));
+      // 마지막 글자의 초성만 입력한 상태도 섞음
+      if (random.nextBoolean()) {
+        query = query.substring(0, query.length() - 1) + HangulJamo.choseong(query.substring(query.length() - 1));
+      }
+      if (random.nextInt(4) == 0) {
+        query = HangulJamo.choseong(query);
+      }
+      for (int limit : new int[]{1, 5, 20, 10_000}) {
+        assertThat(index.search(query, limit)).as("query=%s limit=%d", query, limit)
+            .containsExactly(bruteForce(names, query, limit));
+      }
+    }
+  }
+
+  // 모든 이름의 모든 글자 위치에서 일치 여부를 확인하고 순위대로 정렬
+  static int[] bruteForce(List<String> names, String query, int limit) {
+    boolean choseongQuery = HangulJamo.isChoseongQuery(query);
+    String key = choseongQuery ? HangulJamo.choseong(query) : HangulJamo.decompose(query);
+    if (key.isEmpty()) {
+      return new int[0];
+    }
+    List<int[]> matches = new ArrayList<>();
+    for (int entry = 0; entry < names.size(); entry++) {
+      String name = names.get(entry).replaceAll("\\s+", "");
+      for (int start = 0; start < name.length(); start++) {
+        String rest = name.substring(start);
+        String suffix = choseongQuery ? HangulJamo.choseong(rest) : HangulJamo.decompose(rest);
+        if (suffix.startsWith(key)) {
+          matches.add(new int[]{start == 0 ? 0 : 1, name.length(), entry});
+          break;
+        }
+      }
+    }
+    return matches.stream()
+        .sorted(Comparator.<int[]>comparingInt(m -> m[0]).thenComparingInt(m -> m[1]).thenComparingInt(m -> m[2]))
+        .limit(limit)
+        .mapToInt(m -> m[2])
+        .toArray();
+  }
+
+}
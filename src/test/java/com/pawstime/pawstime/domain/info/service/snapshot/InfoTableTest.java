@@ -0,0 +1,60 @@
+package com.pawstime.pawstime.domain.info.service.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+// 스냅샷 정렬이 DB 조회(ORDER BY 정렬 값, ID) 와 같은 순서인지 확인
+class InfoTableTest {
+
+  private record Row(Long id, String name, Integer addNum) {
+  }
+
+  // ID 순으로 넘김 (InfoSnapshotLoader 와 같음)
+  private static final List<Row> ROWS = List.of(
+      new Row(1L, "apple", 1),
+      new Row(2L, null, 1),
+      new Row(3L, "Banana", 1),
+      new Row(4L, "APPLE", 1),
+      new Row(5L, "가나", 1),
+      new Row(6L, "다른 지역", 2));
+
+  private final InfoTable<Row> table = new InfoTable<>(ROWS, Row::addNum, sortKeys());
+
+  private static Map<String, Comparator<Row>> sortKeys() {
+    Map<String, Comparator<Row>> keys = new LinkedHashMap<>();
+    keys.put("name", InfoTable.byString(Row::name));
+    keys.put("id", InfoTable.byNumber(Row::id));
+    return keys;
+  }
+
+  @Test
+  void sortsStringsIgnoringCaseWithNullsFirstLikeMysql() {
+    assertThat(ids(Sort.Direction.ASC)).containsExactly(2L, 1L, 4L, 3L, 5L);
+  }
+
+  @Test
+  void descendingPutsNullsLastAndBreaksTiesByIdDescending() {
+    assertThat(ids(Sort.Direction.DESC)).containsExactly(5L, 3L, 4L, 1L, 2L);
+  }
+
+  @Test
+  void pagesWithinRegion() {
+    assertThat(table.page(1, PageRequest.of(1, 2, Sort.by("name"))).getContent())
+        .extracting(Row::id).containsExactly(4L, 3L);
+    assertThat(table.page(1, PageRequest.of(0, 2, Sort.by("name"))).getTotalElements()).isEqualTo(5);
+    assertThat(table.page(3, PageRequest.of(0, 2, Sort.by("name"))).getContent()).isEmpty();
+  }
+
+  private List<Long> ids(Sort.Direction direction) {
+    return table.page(1, PageRequest.of(0, 10, Sort.by(direction, "name"))).getContent().stream()
+        .map(Row::id)
+        .toList();
+  }
+}
@@ -0,0 +1,85 @@
+package com.pawstime.pawstime.domain.info.service.spatial;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// "내 주변 병원/보호소" 조회 한 번의 비용 (InfoSpatialIndex.nearestHospitals 가 사용하는 GeoKdTree.nearest)
+// bruteForce : 모든 좌표의 하버사인 거리를 계산해 정렬 (DB 에서 전체 행을 읽어 거리순 정렬하던 방식의 메모리 버전)
+// kdTree : KD-tree 로 가지치기하며 k 개만 탐색
+// 결과가 같은지는 GeoKdTreeTest 에서 확인
+// 실행 : ./gradlew jmh -Pjmh.includes=GeoKdTreeBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoKdTreeBenchmark {
+
+  private static final int QUERY_COUNT = 1024;
+
+  // 전국 동물병원 수 규모와 그 10배
+  @Param({"5000", "50000"})
+  public int size;
+
+  @Param({"10"})
+  public int k;
+
+  @Param({"5000", "50000"})
+  public double radiusMeters;
+
+  private double[] lngs;
+  private double[] lats;
+  private double[] queryLats;
+  private double[] queryLngs;
+  private GeoKdTree tree;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    lngs = new double[size];
+    lats = new double[size];
+    for (int i = 0; i < size; i++) {
+      lngs[i] = 124.5 + random.nextDouble() * 6.5;
+      lats[i] = 33.0 + random.nextDouble() * 5.7;
+    }
+    queryLats = new double[QUERY_COUNT];
+    queryLngs = new double[QUERY_COUNT];
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      queryLngs[i] = 124.5 + random.nextDouble() * 6.5;
+      queryLats[i] = 33.0 + random.nextDouble() * 5.7;
+    }
+    tree = new GeoKdTree(lngs, lats);
+  }
+
+  @Benchmark
+  public void bruteForce(Blackhole blackhole) {
+    int q = next++ & (QUERY_COUNT - 1);
+    blackhole.consume(GeoKdTreeTest.bruteForce(lngs, lats, queryLats[q], queryLngs[q], k, radiusMeters));
+  }
+
+  @Benchmark
+  public void kdTree(Blackhole blackhole) {
+    int q = next++ & (QUERY_COUNT - 1);
+    blackhole.consume(tree.nearest(queryLats[q], queryLngs[q], k, radiusMeters));
+  }
+
+  // 스냅샷 교체 시 인덱스 재생성 비용
+  @Benchmark
+  public GeoKdTree build() {
+    return new GeoKdTree(lngs, lats);
+  }
+}
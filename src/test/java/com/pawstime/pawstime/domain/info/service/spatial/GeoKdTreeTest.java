@@ -0,0 +1,126 @@
+package com.pawstime.pawstime.domain.info.service.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.pawstime.pawstime.domain.info.service.spatial.GeoKdTree.Neighbor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+// KD-tree 조회 결과가 전체 좌표를 하버사인 거리로 훑은 결과와 같은지 확인
+class GeoKdTreeTest {
+
+  // 국내 병원/보호소 좌표 범위
+  private static final double MIN_LNG = 124.5;
+  private static final double MAX_LNG = 131.0;
+  private static final double MIN_LAT = 33.0;
+  private static final double MAX_LAT = 38.7;
+
+  private final Random random = new Random(42);
+
+  @Test
+  void nearestMatchesBruteForceHaversineScan() {
+    int size = 5000;
+    double[] lngs = randomCoordinates(size, MIN_LNG, MAX_LNG);
+    double[] lats = randomCoordinates(size, MIN_LAT, MAX_LAT);
+    GeoKdTree tree = new GeoKdTree(lngs, lats);
+
+    for (int q = 0; q < 300; q++) {
+      double lat = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+      double lng = MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+      for (int k : new int[]{1, 5, 20, 100}) {
+        for (double radius : new double[]{1_000, 10_000, 50_000, Double.MAX_VALUE}) {
+          assertSameNeighbors(tree.nearest(lat, lng, k, radius), bruteForce(lngs, lats, lat, lng, k, radius),
+              lngs, lats, lat, lng);
+        }
+      }
+    }
+  }
+
+  @Test
+  void nearestHandlesDuplicateCoordinates() {
+    // 같은 건물에 여러 병원이 있는 경우처럼 좌표가 겹치는 항목
+    int size = 2000;
+    double[] lngs = new double[size];
+    double[] lats = new double[size];
+    for (int i = 0; i < size; i++) {
+      lngs[i] = 127.0 + (i % 50) * 0.001;
+      lats[i] = 37.5 + (i % 40) * 0.001;
+    }
+    GeoKdTree tree = new GeoKdTree(lngs, lats);
+
+    for (int q = 0; q < 100; q++) {
+      double lat = 37.49 + random.nextDouble() * 0.06;
+      double lng = 126.99 + random.nextDouble() * 0.07;
+      for (int k : new int[]{1, 7, 60}) {
+        assertSameNeighbors(tree.nearest(lat, lng, k, 3_000), bruteForce(lngs, lats, lat, lng, k, 3_000),
+            lngs, lats, lat, lng);
+      }
+    }
+  }
+
+  @Test
+  void rangeMatchesLinearScan() {
+    int size = 5000;
+    double[] lngs = randomCoordinates(size, MIN_LNG, MAX_LNG);
+    double[] lats = randomCoordinates(size, MIN_LAT, MAX_LAT);
+    GeoKdTree tree = new GeoKdTree(lngs, lats);
+
+    for (int q = 0; q < 200; q++) {
+      double minLng = MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+      double minLat = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+      double maxLng = minLng + random.nextDouble();
+      double maxLat = minLat + random.nextDouble();
+
+      int[] expected = IntStream.range(0, size)
+          .filter(i -> lngs[i] >= minLng && lngs[i] <= maxLng && lats[i] >= minLat && lats[i] <= maxLat)
+          .toArray();
+      assertThat(tree.range(minLng, minLat, maxLng, maxLat)).containsExactlyInAnyOrder(expected);
+    }
+  }
+
+  @Test
+  void emptyTreeReturnsNothing() {
+    GeoKdTree tree = new GeoKdTree(new double[0], new double[0]);
+
+    assertThat(tree.nearest(37.5, 127.0, 5, 10_000)).isEmpty();
+    assertThat(tree.range(-180, -90, 180, 90)).isEmpty();
+  }
+
+  // 거리가 같은 항목은 어느 쪽이 선택되어도 되므로 거리 목록을 비교하고, 각 결과의 거리가 실제 좌표와 맞는지 확인
+  private void assertSameNeighbors(List<Neighbor> actual, List<Neighbor> expected,
+      double[] lngs, double[] lats, double lat, double lng) {
+    assertThat(actual).hasSameSizeAs(expected);
+    for (int i = 0; i < expected.size(); i++) {
+      Neighbor neighbor = actual.get(i);
+      assertThat(neighbor.distance()).isCloseTo(expected.get(i).distance(), within(1e-6));
+      assertThat(neighbor.distance())
+          .isCloseTo(GeoKdTree.haversine(lat, lng, lats[neighbor.ordinal()], lngs[neighbor.ordinal()]), within(1e-6));
+    }
+    assertThat(actual.stream().map(Neighbor::ordinal).distinct().count()).isEqualTo(actual.size());
+  }
+
+  static List<Neighbor> bruteForce(double[] lngs, double[] lats, double lat, double lng, int k, double radius) {
+    List<Neighbor> all = new ArrayList<>();
+    for (int i = 0; i < lngs.length; i++) {
+      double distance = GeoKdTree.haversine(lat, lng, lats[i], lngs[i]);
+      if (distance <= radius) {
+        all.add(new Neighbor(i, distance));
+      }
+    }
+    all.sort(Comparator.comparingDouble(Neighbor::distance));
+    return all.subList(0, Math.min(k, all.size()));
+  }
+
+  private double[] randomCoordinates(int size, double min, double max) {
+    double[] values = new double[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = min + random.nextDouble() * (max - min);
+    }
+    return values;
+  }
+}
@@ -0,0 +1,137 @@
+package com.pawstime.pawstime.domain.like.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pawstime.pawstime.domain.user.enums.Role;
+import com.pawstime.pawstime.domain.user.service.dto.CustomUserInfoDto;
+import com.pawstime.pawstime.global.security.user.CustomUserDetails;
+import com.pawstime.pawstime.support.IntegrationTestSupport;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// 같은 게시글에 좋아요 토글이 몰려도 모든 토글이 실패(데드락 등) 없이 처리되고
+// likes_count 가 실제 좋아요 행 수와 정확히 일치하는지 확인 (토글 중 예외가 나면 runConcurrently 에서 테스트 실패)
+class LikeFacadeConcurrencyTest extends IntegrationTestSupport {
+
+  private static final int THREADS = 16;
+
+  @Autowired
+  private LikeFacade likeFacade;
+
+  private ExecutorService executor;
+  private Long postId;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(THREADS);
+    postId = createPost(createBoard(), createUser());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void likesCountStaysExactWhenManyUsersToggleConcurrently() throws Exception {
+    int userCount = 50;
+    int togglesPerUser = 3;
+    List<Long> userIds = createUsers(userCount);
+
+    List<Runnable> tasks = new ArrayList<>();
+    for (Long userId : userIds) {
+      tasks.add(() -> {
+        for (int t = 0; t < togglesPerUser; t++) {
+          toggleAs(userId);
+        }
+      });
+    }
+    runConcurrently(tasks);
+
+    // 토글 횟수가 홀수이므로 모든 사용자가 최종적으로 좋아요 상태
+    assertThat(likesCount()).isEqualTo(userCount);
+    assertThat(likeRows()).isEqualTo(userCount);
+  }
+
+  @Test
+  void likesCountMatchesRowsWhenSameUserTogglesFromManyThreads() throws Exception {
+    int userCount = 4;
+    int threadsPerUser = 4;
+    int togglesPerThread = 25;
+    List<Long> userIds = createUsers(userCount);
+
+    List<Runnable> tasks = new ArrayList<>();
+    for (Long userId : userIds) {
+      for (int i = 0; i < threadsPerUser; i++) {
+        tasks.add(() -> {
+          for (int t = 0; t < togglesPerThread; t++) {
+            toggleAs(userId);
+          }
+        });
+      }
+    }
+    runConcurrently(tasks);
+
+    // 같은 게시글의 토글은 게시글 행 잠금으로 차례대로 처리되므로 매번 상태가 바뀜
+    // 사용자별 토글 횟수(100)가 짝수이므로 최종적으로 좋아요 없음
+    assertThat(likeRows()).isZero();
+    assertThat(likesCount()).isZero();
+  }
+
+  private List<Long> createUsers(int count) {
+    List<Long> userIds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      userIds.add(createUser());
+    }
+    return userIds;
+  }
+
+  // 모든 작업을 동시에 시작시키고 끝날 때까지 대기
+  private void runConcurrently(List<Runnable> tasks) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (Runnable task : tasks) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        task.run();
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(2, TimeUnit.MINUTES);
+    }
+  }
+
+  // 요청 스레드처럼 인증 정보를 설정한 뒤 토글 (예외는 그대로 전파)
+  private void toggleAs(Long userId) {
+    CustomUserDetails userDetails = new CustomUserDetails(
+        CustomUserInfoDto.builder().userId(userId).role(Role.USER).build());
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    try {
+      likeFacade.toggleLike(postId);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  private int likesCount() {
+    return jdbcTemplate.queryForObject("SELECT likes_count FROM post WHERE post_id = ?", Integer.class, postId);
+  }
+
+  private int likeRows() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes WHERE post_id = ?", Integer.class, postId);
+  }
+}
@@ -0,0 +1,173 @@
+package com.pawstime.pawstime.domain.post.service;
+
+import com.pawstime.pawstime.PawstimeApplication;
+import com.pawstime.pawstime.domain.post.entity.Post;
+import com.pawstime.pawstime.domain.post.entity.repository.PostRepository;
+import com.pawstime.pawstime.domain.post.service.search.PostSearchIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+// 게시글 키워드 검색 한 페이지 조회 시간 (MySQL(Testcontainers) 에 게시글을 넣고 실제 SQL 로 측정, Docker 필요)
+// getPostList : GetListPostService.getPostList (keywordSpec 이 색인 후보 수에 따라 IN + LIKE 또는 LIKE 만 선택)
+// likeOnly : 색인 도입 전과 같은 LIKE 조건만으로 같은 페이지 조회
+// 검색어는 색인 후보 수 상한(MAX_INDEX_CANDIDATES) 아래/위 양쪽을 포함 (setUp 에서 검색어별 후보 수와 경로 출력)
+//  - 슬개골 : 게시글의 0.2% (10만 건에서 약 200건, 색인 경로)
+//  - 심장사상충 : 게시글의 0.5% (10만 건에서 약 500건, 색인 경로)
+//  - 산책 : 게시글의 30% (상한 초과, LIKE 경로)
+// 나머지 단어는 검색어와 글자가 겹치지 않는 단어 3000개에서 앞쪽 단어가 더 자주 나오도록 뽑는다.
+// 실행 : ./gradlew jmh -Pjmh.includes=GetListPostServiceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetListPostServiceBenchmark {
+
+  private static final String[] PLANTED_WORDS = {"슬개골", "심장사상충", "산책"};
+  private static final double[] PLANTED_RATES = {0.002, 0.005, 0.3};
+  // 검색어에 쓰인 글자(슬개골심장사상충산책)가 없는 음절
+  private static final String SYLLABLES = "가나다라마바아자차카타파하거너더러머버서어저처커터퍼허고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후";
+  private static final int VOCABULARY_SIZE = 3000;
+  private static final int INSERT_BATCH_SIZE = 5000;
+  private static final PageRequest PAGE = PageRequest.of(0, 20);
+
+  @Param({"10000", "100000"})
+  public int postCount;
+
+  @Param({"슬개골", "심장사상충", "산책"})
+  public String keyword;
+
+  private MySQLContainer<?> mysql;
+  private ConfigurableApplicationContext context;
+  private GetListPostService getListPostService;
+  private PostRepository postRepository;
+
+  @Setup
+  public void setUp() {
+    mysql = new MySQLContainer<>("mysql:8.0").withUrlParam("rewriteBatchedStatements", "true");
+    mysql.start();
+    context = new SpringApplicationBuilder(PawstimeApplication.class)
+        .profiles("test")
+        .properties(
+            "spring.datasource.url=" + mysql.getJdbcUrl(),
+            "spring.datasource.username=" + mysql.getUsername(),
+            "spring.datasource.password=" + mysql.getPassword(),
+            "spring.jpa.properties.hibernate.generate_statistics=false",
+            "server.port=0")
+        .run();
+
+    insertPosts(context.getBean(JdbcTemplate.class));
+    PostSearchIndex postSearchIndex = context.getBean(PostSearchIndex.class);
+    postSearchIndex.rebuild();
+
+    getListPostService = context.getBean(GetListPostService.class);
+    postRepository = context.getBean(PostRepository.class);
+
+    Set<Long> candidates = postSearchIndex.search(keyword);
+    int candidateCount = candidates == null ? -1 : candidates.size();
+    System.out.printf("keyword=%s postCount=%d candidates=%d path=%s%n", keyword, postCount, candidateCount,
+        candidateCount >= 0 && candidateCount <= GetListPostService.MAX_INDEX_CANDIDATES ? "index" : "like");
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+    mysql.stop();
+  }
+
+  @Benchmark
+  public Page<?> getPostList() {
+    return getListPostService.getPostList(null, keyword, PAGE, "createdAt", "desc");
+  }
+
+  @Benchmark
+  public Page<?> likeOnly() {
+    Specification<Post> spec = Specification.where(PostSpecification.isNotDeleted())
+        .and(PostSpecification.hasKeyword(keyword))
+        .and(PostSpecification.boardIsNotDeleted());
+    Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "postId"));
+    return postRepository.findPostList(spec, PageRequest.of(0, PAGE.getPageSize(), sort));
+  }
+
+  private void insertPosts(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.update("INSERT INTO board (board_id, title, board_type, allow_comments, allow_reports, is_delete, "
+        + "created_at, updated_at) VALUES (1, '자유 게시판', 'GENERAL', true, false, false, NOW(6), NOW(6))");
+    jdbcTemplate.update("INSERT INTO users (user_id, email, password, nick, role, is_deleted, is_delete, "
+        + "created_at, updated_at) VALUES (1, 'bench@test.com', 'password', 'nick', 'USER', false, false, NOW(6), NOW(6))");
+
+    Random random = new Random(42);
+    List<String> vocabulary = vocabulary(random);
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < postCount; i++) {
+      // 작성 시각은 1초씩 차이 나게 (최신 글이 큰 ID)
+      rows.add(new Object[]{sentence(random, vocabulary, 5), sentence(random, vocabulary, 35), postCount - i});
+      if (rows.size() == INSERT_BATCH_SIZE) {
+        insertBatch(jdbcTemplate, rows);
+        rows.clear();
+      }
+    }
+    insertBatch(jdbcTemplate, rows);
+  }
+
+  private void insertBatch(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+    jdbcTemplate.batchUpdate("INSERT INTO post (title, content, board_id, user_id, likes_count, views, comment_count, "
+        + "is_delete, created_at, updated_at) VALUES (?, ?, 1, 1, 0, 0, 0, false, "
+        + "DATE_SUB(NOW(6), INTERVAL ? SECOND), NOW(6))", rows);
+  }
+
+  // 음절 2~3개로 만든 서로 다른 단어
+  private static List<String> vocabulary(Random random) {
+    List<String> words = new ArrayList<>();
+    while (words.size() < VOCABULARY_SIZE) {
+      int length = 2 + random.nextInt(2);
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < length; i++) {
+        sb.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+      }
+      if (!words.contains(sb.toString())) {
+        words.add(sb.toString());
+      }
+    }
+    return words;
+  }
+
+  // 앞쪽 단어가 더 자주 나오도록 치우치게 뽑고, 검색어는 정해진 비율로 끼워 넣음
+  private static String sentence(Random random, List<String> vocabulary, int length) {
+    List<String> words = new ArrayList<>();
+    for (int i = 0; i < length; i++) {
+      double r = random.nextDouble();
+      words.add(vocabulary.get((int) (r * r * vocabulary.size())));
+    }
+    for (int i = 0; i < PLANTED_WORDS.length; i++) {
+      // 제목과 본문에 나눠서 넣으므로 각각 절반의 확률
+      if (random.nextDouble() < PLANTED_RATES[i] / 2) {
+        words.set(random.nextInt(words.size()), PLANTED_WORDS[i]);
+      }
+    }
+    return String.join(" ", words);
+  }
+}
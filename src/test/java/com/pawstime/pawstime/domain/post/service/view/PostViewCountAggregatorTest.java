@@ -0,0 +1,79 @@
+package com.pawstime.pawstime.domain.post.service.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 조회 집계와 flush(맵에서 조회 없는 게시글 제거 포함)가 동시에 일어나도 조회수가 누락되지 않는지 확인
+class PostViewCountAggregatorTest {
+
+  @Test
+  void noViewsAreLostWhileFlushingConcurrently() throws Exception {
+    AtomicLong written = new AtomicLong();
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+      List<Object[]> rows = invocation.getArgument(1);
+      rows.forEach(row -> written.addAndGet((Long) row[0]));
+      return new int[rows.size()];
+    });
+    PostViewCountAggregator aggregator = new PostViewCountAggregator(jdbcTemplate);
+
+    int threads = 8;
+    int viewsPerThread = 200_000;
+    int postCount = 20_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean viewing = new AtomicBoolean(true);
+    try {
+      // 게시글이 많아서 한 주기 동안 조회가 없는 게시글이 생기고, flush 가 제거한 게시글에 다시 조회가 들어옴
+      List<Future<?>> viewers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        Random random = new Random(t);
+        viewers.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < viewsPerThread; i++) {
+            aggregator.increment((long) random.nextInt(postCount));
+          }
+          return null;
+        }));
+      }
+      Future<?> flusher = executor.submit(() -> {
+        start.await();
+        while (viewing.get()) {
+          aggregator.flush();
+          Thread.sleep(1);
+        }
+        return null;
+      });
+
+      start.countDown();
+      for (Future<?> viewer : viewers) {
+        viewer.get(1, TimeUnit.MINUTES);
+      }
+      viewing.set(false);
+      flusher.get(1, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    aggregator.drain();
+
+    assertThat(written.get()).isEqualTo((long) threads * viewsPerThread);
+    assertThat(aggregator.getPendingViews()).isZero();
+  }
+}
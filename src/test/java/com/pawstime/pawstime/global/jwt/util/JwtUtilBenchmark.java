@@ -0,0 +1,78 @@
+package com.pawstime.pawstime.global.jwt.util;
+
+import com.pawstime.pawstime.domain.user.enums.Role;
+import com.pawstime.pawstime.domain.user.service.dto.CustomUserInfoDto;
+import com.pawstime.pawstime.global.jwt.dto.JwtPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+// 인증된 요청 하나에서 JWT 를 검증하는 비용
+// legacyRequest : 호출마다 parserBuilder 로 새 파서를 만들고, 필터(검증 + userId)와 파사드(userId, role 각각 검증 + 파싱)에서 총 6번 검증
+// cachedPrincipal : 공유 파서로 한 번만 검증하고 request attribute 의 JwtPrincipal 을 재사용
+// 실행 : ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+  private static final String SECRET_KEY = "VlwEyVBsYt9V7zq57TejMnVUyzblYcfPQye08f7MGVA9XkHa";
+
+  private JwtUtil jwtUtil;
+  private Key key;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtUtil = new JwtUtil(SECRET_KEY, 86400000L);
+    key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    token = jwtUtil.createAccessToken(CustomUserInfoDto.builder().userId(1L).role(Role.USER).build());
+  }
+
+  @Benchmark
+  public void legacyRequest(Blackhole blackhole) {
+    // JwtFilter : validateToken + getUserId
+    blackhole.consume(legacyParse(token));
+    blackhole.consume(legacyParse(token).get("userId", Long.class));
+    // 파사드 : getUserIdFromToken, getUserRoleFromToken (각각 validateToken + parseClaims)
+    blackhole.consume(legacyParse(token));
+    blackhole.consume(legacyParse(token).get("userId", Long.class));
+    blackhole.consume(legacyParse(token));
+    blackhole.consume(legacyParse(token).get("role", String.class));
+  }
+
+  @Benchmark
+  public void cachedPrincipal(Blackhole blackhole) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+
+    // JwtFilter 에서 한 번 검증, 이후 파사드 호출은 캐시된 결과 사용
+    JwtPrincipal principal = jwtUtil.getPrincipal(request);
+    blackhole.consume(principal.userId());
+    blackhole.consume(jwtUtil.requirePrincipal(request).userId());
+    blackhole.consume(jwtUtil.requirePrincipal(request).role());
+  }
+
+  // 변경 전 JwtUtil 과 같이 호출마다 새 파서 생성
+  private Claims legacyParse(String token) {
+    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+  }
+}
@@ -0,0 +1,61 @@
+package com.pawstime.pawstime.support;
+
+import java.sql.Statement;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// MySQL(Testcontainers) 위에서 실행하는 통합 테스트 공통 설정
+// Docker 가 없는 환경에서는 테스트를 건너뛴다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class IntegrationTestSupport {
+
+  // 테스트 클래스끼리 스프링 컨텍스트를 공유하므로 컨테이너도 한 번만 띄워서 공유 (종료는 Testcontainers 가 처리)
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+      .withUrlParam("rewriteBatchedStatements", "true");
+
+  @Autowired
+  protected JdbcTemplate jdbcTemplate;
+
+  @DynamicPropertySource
+  static void mysqlProperties(DynamicPropertyRegistry registry) {
+    MYSQL.start();
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+  }
+
+  // 테스트 데이터는 엔티티 연관관계와 무관하게 SQL 로 바로 생성
+
+  protected Long createBoard() {
+    return insert("INSERT INTO board (title, board_type, allow_comments, allow_reports, is_delete, created_at, updated_at) "
+        + "VALUES ('테스트 게시판', 'GENERAL', true, false, false, NOW(6), NOW(6))");
+  }
+
+  protected Long createUser() {
+    String email = UUID.randomUUID() + "@test.com";
+    return insert("INSERT INTO users (email, password, nick, role, is_deleted, is_delete, created_at, updated_at) "
+        + "VALUES ('" + email + "', 'password', 'nick', 'USER', false, false, NOW(6), NOW(6))");
+  }
+
+  protected Long createPost(Long boardId, Long userId) {
+    return insert("INSERT INTO post (title, content, board_id, user_id, likes_count, views, comment_count, is_delete, created_at, updated_at) "
+        + "VALUES ('제목', '내용', " + boardId + ", " + userId + ", 0, 0, 0, false, NOW(6), NOW(6))");
+  }
+
+  private Long insert(String sql) {
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.update(connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS), keyHolder);
+    return keyHolder.getKey().longValue();
+  }
+}